@@ -2,6 +2,9 @@
 -- FINSIGHT-AI Database Table Structures
 -- =====================================================
 -- This file contains all CREATE statements for the database tables
+-- Schema changes are now versioned Flyway migrations in
+-- backend-springboot/src/main/resources/db/migration (this file is the V1 baseline
+-- plus V1_1, the comment text split)
 -- =====================================================
 
 -- =====================================================
@@ -125,7 +128,8 @@ CREATE SEQUENCE FLOWAI_REQUEST_COMMENTS_SEQ START WITH 1 INCREMENT BY 1;
 CREATE TABLE FLOWAI_REQUEST_COMMENTS (
     COMMENT_ID NUMBER PRIMARY KEY,
     REQUEST_ID NUMBER NOT NULL,
-    COMMENT_TEXT CLOB NOT NULL,
+    COMMENT_TEXT_SHORT VARCHAR2(4000),
+    COMMENT_TEXT CLOB,
     COMMENTED_BY VARCHAR2(50) NOT NULL,
     COMMENTED_AT TIMESTAMP NOT NULL,
     IS_ETA_CHANGE NUMBER(1) DEFAULT 0 NOT NULL,
@@ -134,7 +138,8 @@ CREATE TABLE FLOWAI_REQUEST_COMMENTS (
     CHANGE_REASON VARCHAR2(500),
     ACTIVE NUMBER(1) DEFAULT 1 NOT NULL,
     CONSTRAINT FK_COMMENT_REQUEST FOREIGN KEY (REQUEST_ID) REFERENCES FLOWAI_REQUESTS(REQUEST_ID) ON DELETE CASCADE,
-    CONSTRAINT FK_COMMENT_USER FOREIGN KEY (COMMENTED_BY) REFERENCES FLOWAI_USERS(NTID)
+    CONSTRAINT FK_COMMENT_USER FOREIGN KEY (COMMENTED_BY) REFERENCES FLOWAI_USERS(NTID),
+    CONSTRAINT CHK_COMMENT_TEXT_PRESENT CHECK (COMMENT_TEXT_SHORT IS NOT NULL OR COMMENT_TEXT IS NOT NULL)
 );
 
 CREATE OR REPLACE TRIGGER FLOWAI_REQUEST_COMMENTS_TRG
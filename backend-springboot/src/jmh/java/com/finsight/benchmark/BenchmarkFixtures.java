@@ -0,0 +1,268 @@
+package com.finsight.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.finsight.controller.RequestController;
+import com.finsight.entity.Account;
+import com.finsight.entity.Request;
+import com.finsight.entity.RequestPriority;
+import com.finsight.entity.RequestStatus;
+import com.finsight.entity.RequestType;
+import com.finsight.entity.User;
+import com.finsight.entity.UserRole;
+import com.finsight.repository.AccountRepository;
+import com.finsight.repository.RequestRepository;
+import com.finsight.repository.RequestSummaryRepository;
+import com.finsight.repository.UserAccountRepository;
+import com.finsight.repository.UserRepository;
+import com.finsight.service.CallerContext;
+import com.finsight.service.FanOutExecutor;
+import com.finsight.service.RequestService;
+import com.finsight.service.TimerService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark Fixtures
+ * Synthetic in-memory accounts, users and tickets wired into the real RequestService
+ * and RequestController through repository stubs (no Spring context, no database)
+ *
+ * Repository stubs answer from pre-built indexes, the way the database would,
+ * so the benchmarks measure the Java code around the queries
+ *
+ * @author Mukund Kute
+ */
+public class BenchmarkFixtures {
+
+    private static final long SEED = 42L;
+
+    private final List<Account> accounts = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+    private final List<Request> activeRequests = new ArrayList<>();
+
+    private final Map<String, User> usersByNtid = new HashMap<>();
+    private final Map<String, List<Long>> junctionAccountIds = new HashMap<>();
+    private final Map<RequestStatus, List<Request>> requestsByStatus = new HashMap<>();
+    private final Map<String, List<Request>> requestsByAssignee = new HashMap<>();
+    private final Map<String, List<Request>> requestsByCreator = new HashMap<>();
+    private final Map<Long, List<Request>> requestsByAccount = new HashMap<>();
+    private final List<Request> assignedEver = new ArrayList<>();
+
+    private final TimerService timerService = new TimerService();
+    private final RequestService requestService = new RequestService();
+    private final RequestController requestController = new RequestController();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public BenchmarkFixtures(int accountCount, int usersPerRole, int requestCount) {
+        Random random = new Random(SEED);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (long id = 1; id <= accountCount; id++) {
+            Account account = new Account(id, "Account " + id);
+            account.setCreatedAt(now.minusDays(365));
+            account.setActive(true);
+            accounts.add(account);
+        }
+
+        for (UserRole role : UserRole.values()) {
+            for (int i = 0; i < usersPerRole; i++) {
+                User user = new User();
+                user.setNtid(role.name().toLowerCase() + i);
+                user.setEmail(user.getNtid() + "@finsight.test");
+                user.setRole(role);
+                Account account = accounts.get(random.nextInt(accounts.size()));
+                user.setAccount(account.getAccountName());
+                user.setAccountId(account.getAccountId());
+                user.setActive(true);
+                user.setCreatedAt(now.minusDays(180));
+                users.add(user);
+                usersByNtid.put(user.getNtid(), user);
+            }
+        }
+        // Scrum masters additionally handle a second account through the junction table
+        for (User user : users) {
+            if (user.getRole() == UserRole.SCRUM_MASTER) {
+                long extra = accounts.get(random.nextInt(accounts.size())).getAccountId();
+                junctionAccountIds.put(user.getNtid(), List.of(user.getAccountId(), extra));
+            }
+        }
+
+        List<User> developers = users.stream().filter(u -> u.getRole() == UserRole.DEVELOPER).collect(Collectors.toList());
+        RequestStatus[] statuses = RequestStatus.values();
+        RequestType[] types = RequestType.values();
+        RequestPriority[] priorities = RequestPriority.values();
+
+        for (long id = 1; id <= requestCount; id++) {
+            User creator = users.get(random.nextInt(users.size()));
+            Request request = new Request("Ticket " + id, "Synthetic ticket description " + id,
+                types[random.nextInt(types.length)], priorities[random.nextInt(priorities.length)],
+                creator.getNtid(), accounts.get(random.nextInt(accounts.size())).getAccountId());
+            request.setRequestId(id);
+            request.setCreatedAt(now.minusMinutes(random.nextInt(60 * 24 * 90)));
+            request.setStatus(statuses[random.nextInt(statuses.length)]);
+            if (request.getStatus() != RequestStatus.OPEN) {
+                User developer = developers.get(random.nextInt(developers.size()));
+                request.setAssignedTo(developer.getNtid());
+                request.setAssignedBy("scrum_master0");
+                request.setAssignedAt(request.getCreatedAt().plusMinutes(random.nextInt(60 * 24)));
+                request.setEta(request.getAssignedAt().plusHours(random.nextInt(24 * 14)));
+            }
+            request.setUpdatedAt(request.getCreatedAt().plusMinutes(random.nextInt(60 * 24 * 7)));
+            request.setActive(true);
+            activeRequests.add(request);
+        }
+        activeRequests.sort(Comparator.comparing(Request::getCreatedAt).reversed());
+
+        for (Request request : activeRequests) {
+            requestsByStatus.computeIfAbsent(request.getStatus(), k -> new ArrayList<>()).add(request);
+            requestsByCreator.computeIfAbsent(request.getCreatedBy(), k -> new ArrayList<>()).add(request);
+            requestsByAccount.computeIfAbsent(request.getAccountId(), k -> new ArrayList<>()).add(request);
+            if (request.getAssignedTo() != null) {
+                requestsByAssignee.computeIfAbsent(request.getAssignedTo(), k -> new ArrayList<>()).add(request);
+                assignedEver.add(request);
+            }
+        }
+        users.sort(Comparator.comparing(User::getNtid));
+
+        UserRepository userRepository = userRepository();
+        UserAccountRepository userAccountRepository = userAccountRepository();
+        CallerContext callerContext = new CallerContext();
+        ReflectionTestUtils.setField(callerContext, "userRepository", userRepository);
+        ReflectionTestUtils.setField(callerContext, "userAccountRepository", userAccountRepository);
+
+        ReflectionTestUtils.setField(requestService, "requestRepository", requestRepository());
+        ReflectionTestUtils.setField(requestService, "requestSummaryRepository", requestSummaryRepository());
+        ReflectionTestUtils.setField(requestService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(requestService, "userAccountRepository", userAccountRepository);
+        ReflectionTestUtils.setField(requestService, "callerContext", callerContext);
+        ReflectionTestUtils.setField(requestService, "accountRepository", accountRepository());
+        ReflectionTestUtils.setField(requestService, "fanOut", new FanOutExecutor());
+        ReflectionTestUtils.setField(requestController, "requestService", requestService);
+        ReflectionTestUtils.setField(requestController, "timerService", timerService);
+        ReflectionTestUtils.setField(requestController, "objectMapper", objectMapper);
+    }
+
+    public RequestService getRequestService() {
+        return requestService;
+    }
+
+    public RequestController getRequestController() {
+        return requestController;
+    }
+
+    public TimerService getTimerService() {
+        return timerService;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public List<Request> getActiveRequests() {
+        return activeRequests;
+    }
+
+    public List<Account> getAccounts() {
+        return accounts;
+    }
+
+    /**
+     * First fixture user with the given role
+     */
+    public String ntidFor(UserRole role) {
+        return role.name().toLowerCase() + "0";
+    }
+
+    private RequestRepository requestRepository() {
+        return stub(RequestRepository.class, this::answerRequestQuery);
+    }
+
+    /**
+     * Answers with the full Request rows; they are RequestViews like the summaries
+     */
+    private RequestSummaryRepository requestSummaryRepository() {
+        return stub(RequestSummaryRepository.class, this::answerRequestQuery);
+    }
+
+    private Object answerRequestQuery(String method, Object[] args) {
+        switch (method) {
+            case "findByActiveTrueOrderByCreatedAtDesc":
+                return activeRequests;
+            case "findAllAssignedTicketsOrderByCreatedAtDesc":
+                return assignedEver;
+            case "findByStatusAndActiveTrueOrderByCreatedAtDesc":
+                return requestsByStatus.getOrDefault((RequestStatus) args[0], List.of());
+            case "findByAssignedToAndActiveTrueOrderByCreatedAtDesc":
+                return requestsByAssignee.getOrDefault((String) args[0], List.of());
+            case "findByCreatedByAndActiveTrueOrderByCreatedAtDesc":
+                return requestsByCreator.getOrDefault((String) args[0], List.of());
+            case "findByAccountIdAndActiveTrueOrderByCreatedAtDesc":
+                return requestsByAccount.getOrDefault((Long) args[0], List.of());
+            case "findWithFilters":
+                return activeRequests.stream()
+                    .filter(r -> args[0] == null || r.getStatus() == args[0])
+                    .filter(r -> args[1] == null || r.getPriority() == args[1])
+                    .filter(r -> args[2] == null || r.getRequestType() == args[2])
+                    .filter(r -> args[3] == null || r.getAccountId().equals(args[3]))
+                    .collect(Collectors.toList());
+            default:
+                return null;
+        }
+    }
+
+    private UserRepository userRepository() {
+        return stub(UserRepository.class, (method, args) -> {
+            switch (method) {
+                case "findByNtid":
+                    return Optional.ofNullable(usersByNtid.get((String) args[0]));
+                case "findAllByOrderByNtidAsc":
+                    return users;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private UserAccountRepository userAccountRepository() {
+        return stub(UserAccountRepository.class, (method, args) ->
+            "findAccountIdsByNtid".equals(method) ? junctionAccountIds.getOrDefault((String) args[0], List.of()) : null);
+    }
+
+    private AccountRepository accountRepository() {
+        return stub(AccountRepository.class, (method, args) ->
+            "findByActiveTrueOrderByAccountNameAsc".equals(method) ? accounts : null);
+    }
+
+    private interface StubAnswer {
+        Object answer(String method, Object[] args);
+    }
+
+    private static <T> T stub(Class<T> repositoryType, StubAnswer answer) {
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[] {repositoryType},
+            (target, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return "toString".equals(method.getName()) ? repositoryType.getSimpleName() + "Stub"
+                        : "hashCode".equals(method.getName()) ? System.identityHashCode(target) : target == args[0];
+                }
+                Object result = answer.answer(method.getName(), args);
+                if (result == null) {
+                    throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+                }
+                return result;
+            });
+        return repositoryType.cast(proxy);
+    }
+}
@@ -0,0 +1,62 @@
+package com.finsight.benchmark;
+
+import com.finsight.entity.Request;
+import com.finsight.entity.RequestPriority;
+import com.finsight.entity.RequestStatus;
+import com.finsight.entity.UserRole;
+import com.finsight.service.RequestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Role-based filtering in RequestService.getRequests()
+ * The DEVELOPER case with no status filter exercises the created + assigned + OPEN list merge
+ *
+ * @author Mukund Kute
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestFilteringBenchmark {
+
+    @Param({"ADMIN", "SCRUM_MASTER", "MANAGER", "DEVELOPER", "USER"})
+    private UserRole role;
+
+    @Param({"1000", "10000"})
+    private int requestCount;
+
+    private RequestService requestService;
+    private String userNtid;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(20, 10, requestCount);
+        requestService = fixtures.getRequestService();
+        userNtid = fixtures.ntidFor(role);
+    }
+
+    @Benchmark
+    public List<Request> allVisible() {
+        return requestService.getRequests(userNtid, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<Request> inProgressHighPriority() {
+        return requestService.getRequests(userNtid, RequestStatus.IN_PROGRESS, RequestPriority.HIGH, null, null);
+    }
+}
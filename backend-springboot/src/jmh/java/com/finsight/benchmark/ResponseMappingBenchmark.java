@@ -0,0 +1,65 @@
+package com.finsight.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.controller.RequestController;
+import com.finsight.entity.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/requests as the controller builds it: filtering, per-ticket map building and
+ * timer enrichment, optionally followed by JSON serialization of the response body;
+ * buildSparseResponseMaps is the same list with fields=requestId,title,status,eta
+ *
+ * @author Mukund Kute
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"100", "1000"})
+    private int requestCount;
+
+    private RequestController requestController;
+    private ObjectMapper objectMapper;
+    private String userNtid;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(20, 10, requestCount);
+        requestController = fixtures.getRequestController();
+        objectMapper = fixtures.getObjectMapper();
+        userNtid = fixtures.ntidFor(UserRole.ADMIN);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> buildResponseMaps() {
+        return requestController.getRequests(null, null, null, null, null, userNtid);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> buildSparseResponseMaps() {
+        return requestController.getRequests(null, null, null, null, "requestId,title,status,eta", userNtid);
+    }
+
+    @Benchmark
+    public byte[] buildAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(requestController.getRequests(null, null, null, null, null, userNtid).getBody());
+    }
+}
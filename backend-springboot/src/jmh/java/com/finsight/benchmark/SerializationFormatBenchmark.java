@@ -0,0 +1,78 @@
+package com.finsight.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.finsight.entity.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of the GET /api/requests response body as JSON, CBOR and Smile
+ * Payload sizes are printed once per trial
+ *
+ * @author Mukund Kute
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"1000"})
+    private int requestCount;
+
+    private ObjectMapper objectMapper;
+    private Object responseBody;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(20, 10, requestCount);
+        ObjectMapper jsonMapper = fixtures.getObjectMapper();
+        switch (format) {
+            case "cbor":
+                objectMapper = jsonMapper.copyWith(new CBORFactory());
+                break;
+            case "smile":
+                objectMapper = jsonMapper.copyWith(new SmileFactory());
+                break;
+            default:
+                objectMapper = jsonMapper;
+                break;
+        }
+        responseBody = fixtures.getRequestController()
+            .getRequests(null, null, null, null, null, fixtures.ntidFor(UserRole.ADMIN)).getBody();
+        encoded = objectMapper.writeValueAsBytes(responseBody);
+        int jsonSize = jsonMapper.writeValueAsBytes(responseBody).length;
+        System.out.printf("%n%s payload for %d tickets: %d bytes (%.0f%% of JSON)%n",
+            format, requestCount, encoded.length, 100.0 * encoded.length / jsonSize);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(responseBody);
+    }
+
+    @Benchmark
+    public List<?> decode() throws Exception {
+        return objectMapper.readValue(encoded, List.class);
+    }
+}
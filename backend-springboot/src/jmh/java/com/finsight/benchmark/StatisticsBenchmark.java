@@ -0,0 +1,64 @@
+package com.finsight.benchmark;
+
+import com.finsight.dto.AccountStatsDTO;
+import com.finsight.dto.UserTicketStatsDTO;
+import com.finsight.entity.UserRole;
+import com.finsight.service.RequestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics aggregation behind the dashboard: per-account counts and per-user ticket counts
+ *
+ * @author Mukund Kute
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsBenchmark {
+
+    @Param({"1000", "10000"})
+    private int requestCount;
+
+    private RequestService requestService;
+    private Long accountId;
+    private String requestedBy;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(20, 10, requestCount);
+        requestService = fixtures.getRequestService();
+        accountId = fixtures.getAccounts().get(0).getAccountId();
+        requestedBy = fixtures.ntidFor(UserRole.MANAGER);
+    }
+
+    @Benchmark
+    public List<AccountStatsDTO> accountStatistics() {
+        return requestService.getAccountStatistics();
+    }
+
+    @Benchmark
+    public List<UserTicketStatsDTO> userStatisticsByAccount() {
+        return requestService.getUserStatisticsByAccount(accountId);
+    }
+
+    @Benchmark
+    public List<UserTicketStatsDTO> userTicketStatistics() {
+        return requestService.getUserTicketStatistics(requestedBy);
+    }
+}
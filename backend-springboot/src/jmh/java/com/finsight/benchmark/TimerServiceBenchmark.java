@@ -0,0 +1,74 @@
+package com.finsight.benchmark;
+
+import com.finsight.entity.Request;
+import com.finsight.service.TimerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimerService formatting and the per-ticket timer enrichment done for every list response
+ *
+ * @author Mukund Kute
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimerServiceBenchmark {
+
+    private static final Duration[] DURATIONS = {
+        Duration.ZERO,
+        Duration.ofMinutes(1),
+        Duration.ofMinutes(47),
+        Duration.ofHours(5).plusMinutes(3),
+        Duration.ofDays(1),
+        Duration.ofDays(12).plusHours(7).plusMinutes(59)
+    };
+
+    private TimerService timerService;
+    private List<Request> requests;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(20, 10, 1000);
+        timerService = fixtures.getTimerService();
+        requests = fixtures.getActiveRequests();
+    }
+
+    @Benchmark
+    public void formatDuration(Blackhole blackhole) {
+        for (Duration duration : DURATIONS) {
+            blackhole.consume(timerService.formatDuration(duration));
+        }
+    }
+
+    /**
+     * The five timer fields RequestController adds to each of 1000 tickets
+     */
+    @Benchmark
+    public void enrichTimers(Blackhole blackhole) {
+        for (Request request : requests) {
+            Duration timeUntilEta = timerService.getTimeUntilEta(request);
+            blackhole.consume(timerService.formatDuration(timerService.getTimeInOpenQueue(request)));
+            blackhole.consume(timerService.formatDuration(timerService.getTimeInDeveloperQueue(request)));
+            blackhole.consume(timeUntilEta != null ? timerService.formatDuration(timeUntilEta) : null);
+            blackhole.consume(timerService.isEtaApproaching(request, 30));
+            blackhole.consume(timerService.isEtaExceeded(request));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.finsight.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency samples and outcome counts for one endpoint
+ *
+ * @author Mukund Kute
+ */
+public class EndpointStats {
+
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private int errors;
+    private final Map<String, Integer> statusCounts = new TreeMap<>();
+
+    public synchronized void record(long latencyMicros, int status, boolean error) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyMicros;
+        if (error) {
+            errors++;
+        }
+        statusCounts.merge(status > 0 ? String.valueOf(status) : "io-error", 1, Integer::sum);
+    }
+
+    public synchronized void merge(EndpointStats other) {
+        synchronized (other) {
+            for (int i = 0; i < other.count; i++) {
+                if (count == latenciesMicros.length) {
+                    latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+                }
+                latenciesMicros[count++] = other.latenciesMicros[i];
+            }
+            errors += other.errors;
+            other.statusCounts.forEach((status, n) -> statusCounts.merge(status, n, Integer::sum));
+        }
+    }
+
+    /**
+     * Summary with latencies in milliseconds; percentiles use the nearest-rank method
+     */
+    public synchronized Map<String, Object> summarize(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("errorRate", count == 0 ? 0.0 : round((double) errors / count));
+        summary.put("throughputPerSec", round(count / durationSeconds));
+        summary.put("p50Ms", percentile(sorted, 50));
+        summary.put("p90Ms", percentile(sorted, 90));
+        summary.put("p95Ms", percentile(sorted, 95));
+        summary.put("p99Ms", percentile(sorted, 99));
+        summary.put("maxMs", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1000.0));
+        summary.put("statusCounts", new TreeMap<>(statusCounts));
+        return summary;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return round(sorted[Math.max(0, rank - 1)] / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,213 @@
+package com.finsight.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Load Generator
+ * Drives the running API with a weighted mix of role-based journeys from concurrent
+ * virtual users, then reports per-endpoint throughput, error rate and p50/p90/p95/p99
+ *
+ * Usage: LoadGenerator [--base-url URL] [--concurrency N] [--duration SECONDS] [--warmup SECONDS]
+ *        [--admin NTID] [--seed N] [--think-time-ms N] [--mix admin=25,triage=20,...]
+ *        [--out FILE] [--compare BASELINE_FILE]
+ *
+ * @author Mukund Kute
+ */
+public class LoadGenerator {
+
+    private static final String DEFAULT_MIX = "admin=25,triage=20,developer=25,manager=15,eta=5,create=10";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8081");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        String adminNtid = options.getOrDefault("admin", "seed.admin");
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        long thinkTimeMs = Long.parseLong(options.getOrDefault("think-time-ms", "0"));
+        String mix = options.getOrDefault("mix", DEFAULT_MIX);
+        String out = options.getOrDefault("out", "target/loadtest-summary.json");
+
+        UserJourneys journeys = new UserJourneys(baseUrl);
+        journeys.discoverUsers(adminNtid);
+        System.out.println("Discovered " + journeys.describePools() + " at " + baseUrl);
+
+        Map<String, Consumer<Random>> available = new LinkedHashMap<>();
+        available.put("admin", journeys::adminListViews);
+        available.put("triage", journeys::scrumMasterTriage);
+        available.put("developer", journeys::developerStatusUpdate);
+        available.put("manager", journeys::managerDashboard);
+        available.put("eta", journeys::etaAlerts);
+        available.put("create", journeys::userCreatesTicket);
+        Map<String, Integer> weights = parseMix(mix, available.keySet());
+
+        List<Consumer<Random>> wheel = new ArrayList<>();
+        weights.forEach((name, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(available.get(name));
+            }
+        });
+
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + warmupSeconds * 1_000_000_000L;
+        long stopNanos = measureFromNanos + durationSeconds * 1_000_000_000L;
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Random random = new Random(seed + i);
+            Thread worker = new Thread(() -> {
+                while (System.nanoTime() < stopNanos) {
+                    wheel.get(random.nextInt(wheel.size())).accept(random);
+                    if (thinkTimeMs > 0) {
+                        try {
+                            Thread.sleep(thinkTimeMs);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            }, "vu-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        System.out.println("Warming up for " + warmupSeconds + "s with " + concurrency + " virtual users, mix " + weights);
+        sleepUntil(measureFromNanos);
+        journeys.setRecording(true);
+        System.out.println("Measuring for " + durationSeconds + "s");
+        sleepUntil(stopNanos);
+        journeys.setRecording(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Map<String, Object> report = buildReport(journeys.getStats(), durationSeconds, options, weights);
+        printTable(report);
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        File outFile = new File(out);
+        if (outFile.getParentFile() != null) {
+            outFile.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(outFile, report);
+        System.out.println("Summary written to " + outFile.getPath());
+
+        if (options.containsKey("compare")) {
+            printComparison(objectMapper.readTree(new File(options.get("compare"))), objectMapper.valueToTree(report));
+        }
+    }
+
+    private static Map<String, Object> buildReport(Map<String, EndpointStats> stats, int durationSeconds,
+                                                   Map<String, String> options, Map<String, Integer> weights) {
+        EndpointStats overall = new EndpointStats();
+        Map<String, Object> endpoints = new TreeMap<>();
+        stats.forEach((label, endpointStats) -> {
+            overall.merge(endpointStats);
+            endpoints.put(label, endpointStats.summarize(durationSeconds));
+        });
+
+        Map<String, Object> config = new LinkedHashMap<>(options);
+        config.put("mix", weights);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("overall", overall.summarize(durationSeconds));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printTable(Map<String, Object> report) {
+        String format = "%-58s %8s %7s %9s %9s %9s %9s %9s%n";
+        System.out.println();
+        System.out.printf(format, "ENDPOINT", "REQS", "ERR%", "RPS", "P50 ms", "P90 ms", "P99 ms", "MAX ms");
+        Map<String, Object> endpoints = (Map<String, Object>) report.get("endpoints");
+        endpoints.forEach((label, summary) -> printRow(format, label, (Map<String, Object>) summary));
+        printRow(format, "OVERALL", (Map<String, Object>) report.get("overall"));
+        System.out.println();
+    }
+
+    private static void printRow(String format, String label, Map<String, Object> summary) {
+        System.out.printf(format, label, summary.get("requests"),
+            String.format("%.2f", ((Number) summary.get("errorRate")).doubleValue() * 100),
+            summary.get("throughputPerSec"), summary.get("p50Ms"), summary.get("p90Ms"),
+            summary.get("p99Ms"), summary.get("maxMs"));
+    }
+
+    /**
+     * Side-by-side p99 and throughput against a previous summary file
+     */
+    private static void printComparison(JsonNode baseline, JsonNode current) {
+        String format = "%-58s %10s %10s %9s %10s %10s%n";
+        System.out.println("Compared with baseline:");
+        System.out.printf(format, "ENDPOINT", "BASE P99", "P99", "DELTA", "BASE RPS", "RPS");
+        List<String> labels = new ArrayList<>();
+        current.path("endpoints").fieldNames().forEachRemaining(labels::add);
+        for (String label : labels) {
+            printComparisonRow(format, label, baseline.path("endpoints").path(label), current.path("endpoints").path(label));
+        }
+        printComparisonRow(format, "OVERALL", baseline.path("overall"), current.path("overall"));
+    }
+
+    private static void printComparisonRow(String format, String label, JsonNode baseline, JsonNode current) {
+        if (baseline.isMissingNode()) {
+            System.out.printf(format, label, "-", current.path("p99Ms").asDouble(), "new", "-",
+                current.path("throughputPerSec").asDouble());
+            return;
+        }
+        double baseP99 = baseline.path("p99Ms").asDouble();
+        double p99 = current.path("p99Ms").asDouble();
+        String delta = baseP99 == 0 ? "-" : String.format("%+.1f%%", (p99 - baseP99) / baseP99 * 100);
+        System.out.printf(format, label, baseP99, p99, delta, baseline.path("throughputPerSec").asDouble(),
+            current.path("throughputPerSec").asDouble());
+    }
+
+    private static Map<String, Integer> parseMix(String mix, java.util.Set<String> known) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2 || !known.contains(parts[0])) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "'; journeys are " + known);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                weights.put(parts[0], weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no journey with a positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value pairs, got '" + args[i] + "'");
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            Thread.sleep(Math.min(remaining / 1_000_000 + 1, 1000));
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.finsight.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scripted role-based user journeys against the REST API
+ * Each journey is a short sequence of calls one real user would make from the UI
+ *
+ * @author Mukund Kute
+ */
+public class UserJourneys {
+
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+    private static final String[] REQUEST_TYPES = {"ADHOC", "BUG_FIX", "FEATURE_REQUEST", "TOOL_ENHANCEMENT"};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    private final List<SeedUser> admins = new ArrayList<>();
+    private final List<SeedUser> scrumMasters = new ArrayList<>();
+    private final List<SeedUser> developers = new ArrayList<>();
+    private final List<SeedUser> managers = new ArrayList<>();
+    private final List<SeedUser> users = new ArrayList<>();
+
+    public UserJourneys(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    /**
+     * Load the user pools for each role through GET /api/users (not recorded)
+     */
+    public void discoverUsers(String adminNtid) throws Exception {
+        HttpResponse<String> response = send("GET", "/api/users", adminNtid, null);
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/users as " + adminNtid + " returned " + response.statusCode()
+                + ": " + response.body());
+        }
+        for (JsonNode node : objectMapper.readTree(response.body())) {
+            if (!node.path("active").asBoolean(true) || node.path("accountId").isNull()) {
+                continue;
+            }
+            SeedUser user = new SeedUser(node.path("ntid").asText(), node.path("accountId").asLong());
+            switch (node.path("role").asText()) {
+                case "ADMIN": admins.add(user); break;
+                case "SCRUM_MASTER": scrumMasters.add(user); break;
+                case "DEVELOPER": developers.add(user); break;
+                case "MANAGER": managers.add(user); break;
+                case "USER": users.add(user); break;
+                default: break;
+            }
+        }
+        if (admins.isEmpty() || scrumMasters.isEmpty() || developers.isEmpty() || managers.isEmpty() || users.isEmpty()) {
+            throw new IllegalStateException("Need at least one active user of each role with an account; found "
+                + admins.size() + " admins, " + scrumMasters.size() + " scrum masters, " + developers.size()
+                + " developers, " + managers.size() + " managers, " + users.size() + " users. Seed data first.");
+        }
+    }
+
+    public String describePools() {
+        return admins.size() + " admins, " + scrumMasters.size() + " scrum masters, " + developers.size()
+            + " developers, " + managers.size() + " managers, " + users.size() + " users";
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    public Map<String, EndpointStats> getStats() {
+        return stats;
+    }
+
+    /**
+     * ADMIN list views: filtered ticket lists and the dashboard counters
+     */
+    public void adminListViews(Random random) {
+        SeedUser admin = pick(random, admins);
+        call("GET /api/requests?status&priority", "GET", "/api/requests?status=IN_PROGRESS&priority="
+            + PRIORITIES[random.nextInt(PRIORITIES.length)], admin.ntid, null);
+        call("GET /api/requests?status&accountId", "GET", "/api/requests?status=OPEN&accountId="
+            + pick(random, users).accountId, admin.ntid, null);
+        call("GET /api/requests/stats", "GET", "/api/requests/stats", admin.ntid, null);
+    }
+
+    /**
+     * SCRUM_MASTER triage: look at urgent open tickets for an account, find a developer, assign
+     */
+    public void scrumMasterTriage(Random random) {
+        SeedUser scrumMaster = pick(random, scrumMasters);
+        JsonNode open = call("GET /api/requests?status&priority&accountId", "GET",
+            "/api/requests?status=OPEN&priority=" + PRIORITIES[2 + random.nextInt(2)] + "&accountId=" + scrumMaster.accountId,
+            scrumMaster.ntid, null);
+        JsonNode candidates = call("GET /api/users?role&accountId", "GET",
+            "/api/users?role=DEVELOPER&accountId=" + scrumMaster.accountId, scrumMaster.ntid, null);
+        if (open == null || open.size() == 0) {
+            return;
+        }
+        JsonNode ticket = open.get(random.nextInt(open.size()));
+        String assignee = candidates != null && candidates.size() > 0
+            ? candidates.get(random.nextInt(candidates.size())).path("ntid").asText()
+            : pick(random, developers).ntid;
+        String eta = LocalDateTime.now().plusHours(8 + random.nextInt(120)).withNano(0)
+            .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        call("POST /api/requests/{id}/assign", "POST", "/api/requests/" + ticket.path("requestId").asLong() + "/assign",
+            scrumMaster.ntid, Map.of("assignedTo", assignee, "eta", eta));
+    }
+
+    /**
+     * DEVELOPER status update: open one of their queues, move a ticket forward and leave a comment
+     */
+    public void developerStatusUpdate(Random random) {
+        SeedUser developer = pick(random, developers);
+        String queue = random.nextBoolean() ? "ASSIGNED" : "IN_PROGRESS";
+        JsonNode mine = call("GET /api/requests?status", "GET", "/api/requests?status=" + queue, developer.ntid, null);
+        if (mine == null) {
+            return;
+        }
+        List<JsonNode> workable = new ArrayList<>();
+        for (JsonNode ticket : mine) {
+            String status = ticket.path("status").asText();
+            if ("ASSIGNED".equals(status) || "IN_PROGRESS".equals(status)) {
+                workable.add(ticket);
+            }
+        }
+        if (workable.isEmpty()) {
+            return;
+        }
+        JsonNode ticket = workable.get(random.nextInt(workable.size()));
+        long requestId = ticket.path("requestId").asLong();
+        String nextStatus = "ASSIGNED".equals(ticket.path("status").asText()) ? "IN_PROGRESS" : "COMPLETED";
+
+        call("GET /api/requests/{id}", "GET", "/api/requests/" + requestId, developer.ntid, null);
+        call("PUT /api/requests/{id}/status", "PUT", "/api/requests/" + requestId + "/status", developer.ntid,
+            Map.of("status", nextStatus, "comment", "Moved to " + nextStatus));
+        call("POST /api/requests/{id}/comments", "POST", "/api/requests/" + requestId + "/comments", developer.ntid,
+            Map.of("commentText", "Load test update: ticket is now " + nextStatus));
+        call("GET /api/requests/{id}/comments?page", "GET", "/api/requests/" + requestId + "/comments?page=0&size=20",
+            developer.ntid, null);
+    }
+
+    /**
+     * MANAGER dashboard: counters, per-account and per-user statistics, account ticket list
+     */
+    public void managerDashboard(Random random) {
+        SeedUser manager = pick(random, managers);
+        call("GET /api/requests/stats", "GET", "/api/requests/stats", manager.ntid, null);
+        call("GET /api/requests/account-statistics", "GET", "/api/requests/account-statistics", manager.ntid, null);
+        call("GET /api/requests/user-statistics-by-account/{accountId}", "GET",
+            "/api/requests/user-statistics-by-account/" + manager.accountId, manager.ntid, null);
+        call("GET /api/requests?status", "GET", "/api/requests?status=IN_PROGRESS", manager.ntid, null);
+    }
+
+    /**
+     * ETA alerts polled by developers and scrum masters
+     */
+    public void etaAlerts(Random random) {
+        SeedUser user = random.nextBoolean() ? pick(random, developers) : pick(random, scrumMasters);
+        call("GET /api/requests/eta-alerts", "GET", "/api/requests/eta-alerts?thresholdMinutes=60", user.ntid, null);
+    }
+
+    /**
+     * USER raises a ticket; keeps the OPEN queue fed for triage
+     */
+    public void userCreatesTicket(Random random) {
+        SeedUser user = pick(random, users);
+        call("POST /api/requests", "POST", "/api/requests", user.ntid, Map.of(
+            "title", "Load test ticket " + random.nextInt(1_000_000),
+            "description", "Created by the load generator to keep the OPEN queue non-empty",
+            "requestType", REQUEST_TYPES[random.nextInt(REQUEST_TYPES.length)],
+            "priority", PRIORITIES[random.nextInt(PRIORITIES.length)],
+            "accountId", user.accountId));
+    }
+
+    /**
+     * Send one request and record it under the endpoint label; returns the JSON body on 2xx
+     */
+    private JsonNode call(String label, String method, String path, String ntid, Object body) {
+        long start = System.nanoTime();
+        int status = 0;
+        String responseBody = null;
+        try {
+            HttpResponse<String> response = send(method, path, ntid, body);
+            status = response.statusCode();
+            responseBody = response.body();
+        } catch (Exception e) {
+            // Counted as an io-error below
+        }
+        long latencyMicros = (System.nanoTime() - start) / 1000;
+        boolean error = status < 200 || status >= 300;
+        if (recording) {
+            stats.computeIfAbsent(label, k -> new EndpointStats()).record(latencyMicros, status, error);
+        }
+        if (error || responseBody == null || responseBody.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(responseBody);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, String ntid, Object body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(60))
+            .header("X-User-NTID", ntid)
+            .header("Accept", "application/json");
+        if (body != null) {
+            builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static class SeedUser {
+        private final String ntid;
+        private final long accountId;
+
+        private SeedUser(String ntid, long accountId) {
+            this.ntid = ntid;
+            this.accountId = accountId;
+        }
+    }
+}
@@ -0,0 +1,547 @@
+package com.finsight.config;
+
+import com.finsight.entity.RequestPriority;
+import com.finsight.entity.RequestStatus;
+import com.finsight.entity.RequestType;
+import com.finsight.entity.User;
+import com.finsight.entity.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Data Seeder - Bulk-loads a synthetic dataset for performance testing
+ * Active only with the "seed" profile; sizes are configured in application-seed.properties
+ *
+ * The same seed and sizes always produce the same accounts, users, tickets and comments.
+ * Rows are written with JDBC batch inserts using IDs above the current maximum; the
+ * sequences are then moved past the seeded IDs so the application keeps generating new ones,
+ * and the second-level cache is cleared.
+ *
+ * @author Mukund Kute
+ */
+@Component
+@Profile("seed")
+@Order(2)
+public class DataSeeder implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSeeder.class);
+
+    private static final String[] WORDS = {
+        "report", "dashboard", "export", "login", "invoice", "reconciliation", "ledger", "forecast",
+        "budget", "variance", "approval", "workflow", "upload", "template", "currency", "journal",
+        "payment", "vendor", "audit", "quarter", "month", "close", "timeout", "error", "slow",
+        "missing", "duplicate", "access", "permission", "filter", "chart", "pivot", "refresh",
+        "schedule", "email", "alert", "mapping", "balance", "entity", "tax", "accrual", "cost",
+        "center", "allocation", "sync", "import", "format", "column", "total", "mismatch"
+    };
+
+    private static final String[] ETA_CHANGE_REASONS = {
+        "Waiting on data from the business team",
+        "Dependency on upstream system release",
+        "Scope increased after review",
+        "Developer reassigned to a higher priority ticket",
+        "Environment unavailable for testing"
+    };
+
+    private static final RequestStatus[] STATUSES = {
+        RequestStatus.COMPLETED, RequestStatus.IN_PROGRESS, RequestStatus.ASSIGNED, RequestStatus.OPEN,
+        RequestStatus.ON_HOLD, RequestStatus.DELAYED, RequestStatus.CANCELLED
+    };
+    private static final int[] STATUS_WEIGHTS = {45, 15, 10, 12, 6, 5, 7};
+
+    private static final RequestPriority[] PRIORITIES = {
+        RequestPriority.LOW, RequestPriority.MEDIUM, RequestPriority.HIGH, RequestPriority.URGENT
+    };
+    private static final int[] PRIORITY_WEIGHTS = {30, 40, 22, 8};
+
+    private static final RequestType[] TYPES = {
+        RequestType.ADHOC, RequestType.BUG_FIX, RequestType.FEATURE_REQUEST, RequestType.TOOL_ENHANCEMENT, RequestType.OTHER
+    };
+    private static final int[] TYPE_WEIGHTS = {35, 25, 20, 15, 5};
+
+    private static final UserRole[] ROLES = {
+        UserRole.USER, UserRole.DEVELOPER, UserRole.MANAGER, UserRole.SCRUM_MASTER, UserRole.ADMIN
+    };
+    private static final int[] ROLE_WEIGHTS = {60, 25, 7, 5, 3};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${finsight.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${finsight.seed.accounts:50}")
+    private int accountCount;
+
+    @Value("${finsight.seed.users:2000}")
+    private int userCount;
+
+    @Value("${finsight.seed.requests:100000}")
+    private int requestCount;
+
+    @Value("${finsight.seed.comments-per-request:3}")
+    private int commentsPerRequest;
+
+    @Value("${finsight.seed.history-days:730}")
+    private int historyDays;
+
+    @Value("${finsight.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${finsight.seed.ntid-prefix:seed}")
+    private String ntidPrefix;
+
+    @Value("${finsight.seed.password:password}")
+    private String password;
+
+    @Value("${finsight.seed.exit-when-done:false}")
+    private boolean exitWhenDone;
+
+    @Autowired
+    private SchemaNames schemaNames;
+
+    private boolean oracle;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // Rows are inserted with JDBC, so NTIDs are made canonical here rather than by the entities
+        ntidPrefix = User.canonicalNtid(ntidPrefix);
+        try (Connection connection = dataSource.getConnection()) {
+            oracle = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("oracle");
+        }
+
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + table("FLOWAI_USERS") + " WHERE NTID LIKE ?", Integer.class, ntidPrefix + ".%");
+        if (existing != null && existing > 0) {
+            throw new RuntimeException("Seed data with NTID prefix '" + ntidPrefix + "' already exists; "
+                + "set finsight.seed.ntid-prefix to load another dataset");
+        }
+
+        logger.info("Seeding {} accounts, {} users, {} requests (~{} comments each) with seed {}",
+            accountCount, userCount, requestCount, commentsPerRequest, randomSeed);
+        long startTime = System.currentTimeMillis();
+
+        Random random = new Random(randomSeed);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        long[] accountIds = seedAccounts(now);
+        SeedUsers users = seedUsers(random, accountIds, now);
+        long comments = seedRequestsAndComments(random, accountIds, users, now);
+
+        // JDBC inserts bypass Hibernate, so drop cached account/user rows and query results
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        logger.info("Seeding finished in {} ms: {} accounts, {} users, {} requests, {} comments",
+            System.currentTimeMillis() - startTime, accountIds.length, users.ntids.length, requestCount, comments);
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    private long[] seedAccounts(LocalDateTime now) {
+        long firstId = nextFreeId("FLOWAI_ACCOUNTS", "ACCOUNT_ID");
+
+        long[] accountIds = new long[accountCount];
+        List<Object[]> rows = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            accountIds[i] = firstId + i;
+            rows.add(new Object[] {accountIds[i], String.format("%s Account %04d", capitalize(ntidPrefix), i + 1),
+                Timestamp.valueOf(now.minusDays(historyDays + 30L)), Boolean.TRUE});
+        }
+        insertBatch("INSERT INTO " + table("FLOWAI_ACCOUNTS")
+            + " (ACCOUNT_ID, ACCOUNT_NAME, CREATED_AT, ACTIVE) VALUES (?, ?, ?, ?)", rows);
+        logger.info("Seeded {} accounts", accountCount);
+        return accountIds;
+    }
+
+    private SeedUsers seedUsers(Random random, long[] accountIds, LocalDateTime now) {
+        // Every seeded user shares one hash; BCrypt per row would dominate the load time
+        String hashedPassword = passwordEncoder.encode(password);
+
+        SeedUsers users = new SeedUsers(userCount, accountIds.length);
+        List<Object[]> userRows = new ArrayList<>(batchSize);
+        List<Object[]> membershipRows = new ArrayList<>();
+
+        for (int i = 0; i < userCount; i++) {
+            String ntid = String.format("%s.u%07d", ntidPrefix, i + 1);
+            UserRole role = pick(random, ROLES, ROLE_WEIGHTS);
+            int homeAccount = skewedIndex(random, accountIds.length);
+            users.ntids[i] = ntid;
+            users.roles[i] = role;
+            users.add(homeAccount, i);
+
+            userRows.add(new Object[] {ntid, ntid + "@finsight.local", String.format("%s Account %04d",
+                capitalize(ntidPrefix), homeAccount + 1), accountIds[homeAccount], hashedPassword, role.name(),
+                Timestamp.valueOf(now.minusDays(historyDays + 1L - random.nextInt(historyDays))), Boolean.TRUE});
+
+            // Scrum masters handle 1-4 accounts, some developers work across two
+            int extraAccounts = role == UserRole.SCRUM_MASTER ? random.nextInt(4)
+                : role == UserRole.DEVELOPER && random.nextInt(10) == 0 ? 1 : 0;
+            List<Integer> memberships = new ArrayList<>();
+            memberships.add(homeAccount);
+            for (int extra = 0; extra < extraAccounts; extra++) {
+                int account = random.nextInt(accountIds.length);
+                if (!memberships.contains(account)) {
+                    memberships.add(account);
+                    users.add(account, i);
+                }
+            }
+            if (role == UserRole.SCRUM_MASTER || memberships.size() > 1) {
+                for (int account : memberships) {
+                    membershipRows.add(new Object[] {ntid, accountIds[account], Timestamp.valueOf(now), Boolean.TRUE});
+                }
+            }
+
+            if (userRows.size() >= batchSize) {
+                insertUsers(userRows);
+            }
+        }
+        // A well-known admin (<prefix>.admin) for tools that need to discover the seeded users
+        userRows.add(new Object[] {ntidPrefix + ".admin", ntidPrefix + ".admin@finsight.local",
+            String.format("%s Account %04d", capitalize(ntidPrefix), 1), accountIds[0], hashedPassword,
+            UserRole.ADMIN.name(), Timestamp.valueOf(now), Boolean.TRUE});
+        insertUsers(userRows);
+
+        if (!membershipRows.isEmpty()) {
+            long firstId = nextFreeId("FLOWAI_USER_ACCOUNTS", "USER_ACCOUNT_ID");
+            for (int i = 0; i < membershipRows.size(); i++) {
+                Object[] row = membershipRows.get(i);
+                membershipRows.set(i, new Object[] {firstId + i, row[0], row[1], row[2], row[3]});
+            }
+            insertBatch("INSERT INTO " + table("FLOWAI_USER_ACCOUNTS")
+                + " (USER_ACCOUNT_ID, NTID, ACCOUNT_ID, CREATED_AT, ACTIVE) VALUES (?, ?, ?, ?, ?)",
+                membershipRows);
+            advanceSequence("FLOWAI_USER_ACCOUNTS_SEQ", firstId + membershipRows.size() - 1);
+        }
+        logger.info("Seeded {} users (plus {}.admin) and {} account memberships", userCount, ntidPrefix, membershipRows.size());
+        return users;
+    }
+
+    private void insertUsers(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        insertBatch("INSERT INTO " + table("FLOWAI_USERS")
+            + " (NTID, EMAIL, ACCOUNT, ACCOUNT_ID, PASSWORD, ROLE, CREATED_AT, ACTIVE) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            rows);
+        rows.clear();
+    }
+
+    private long seedRequestsAndComments(Random random, long[] accountIds, SeedUsers users, LocalDateTime now) {
+        String requestSql = "INSERT INTO " + table("FLOWAI_REQUESTS")
+            + " (REQUEST_ID, TITLE, DESCRIPTION, REQUEST_TYPE, PRIORITY, STATUS, CREATED_BY, ASSIGNED_TO, ACCOUNT_ID,"
+            + " CREATED_AT, UPDATED_AT, ASSIGNED_AT, ASSIGNED_BY, ETA, ACTIVE) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String commentSql = "INSERT INTO " + table("FLOWAI_REQUEST_COMMENTS")
+            + " (COMMENT_ID, REQUEST_ID, COMMENT_TEXT_SHORT, COMMENTED_BY, COMMENTED_AT, IS_ETA_CHANGE, OLD_ETA, NEW_ETA,"
+            + " CHANGE_REASON, ACTIVE) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        long historyMinutes = historyDays * 24L * 60L;
+        long commentTotal = 0;
+        int created = 0;
+        long nextRequestId = nextFreeId("FLOWAI_REQUESTS", "REQUEST_ID");
+        long nextCommentId = nextFreeId("FLOWAI_REQUEST_COMMENTS", "COMMENT_ID");
+
+        while (created < requestCount) {
+            int size = Math.min(batchSize, requestCount - created);
+            long firstRequestId = nextRequestId;
+            nextRequestId += size;
+            List<Object[]> requestRows = new ArrayList<>(size);
+            List<Object[]> commentRows = new ArrayList<>(size * Math.max(commentsPerRequest, 1));
+
+            for (int i = 0; i < size; i++) {
+                long requestId = firstRequestId + i;
+                int account = skewedIndex(random, accountIds.length);
+                String createdBy = users.randomMember(random, account);
+                RequestStatus status = pick(random, STATUSES, STATUS_WEIGHTS);
+                RequestPriority priority = pick(random, PRIORITIES, PRIORITY_WEIGHTS);
+
+                // Recent months are busier than old ones
+                long ageMinutes = (long) (historyMinutes * Math.pow(random.nextDouble(), 1.5));
+                LocalDateTime createdAt = now.minusMinutes(ageMinutes);
+                LocalDateTime assignedAt = null;
+                LocalDateTime eta = null;
+                String assignedTo = null;
+                String assignedBy = null;
+                LocalDateTime updatedAt = createdAt;
+
+                if (status != RequestStatus.OPEN) {
+                    assignedTo = users.randomWithRole(random, account, UserRole.DEVELOPER);
+                    assignedBy = users.randomWithRole(random, account, UserRole.SCRUM_MASTER);
+                    assignedAt = minBefore(createdAt.plusMinutes(expMinutes(random, 8 * 60)), now);
+                    eta = assignedAt.plusHours(etaHours(random, priority));
+                    updatedAt = assignedAt;
+                    if (status == RequestStatus.COMPLETED || status == RequestStatus.CANCELLED) {
+                        // Roughly one in five completed tickets lands after its ETA
+                        long workMinutes = Duration.between(assignedAt, eta).toMinutes();
+                        long spent = random.nextInt(5) == 0 ? workMinutes + expMinutes(random, 24 * 60)
+                            : (long) (workMinutes * random.nextDouble());
+                        updatedAt = minBefore(assignedAt.plusMinutes(spent), now);
+                    } else {
+                        updatedAt = minBefore(assignedAt.plusMinutes(expMinutes(random, 24 * 60)), now);
+                    }
+                }
+
+                requestRows.add(new Object[] {
+                    requestId, title(random), description(random), pick(random, TYPES, TYPE_WEIGHTS).name(),
+                    priority.name(), status.name(), createdBy, assignedTo, accountIds[account],
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt), timestamp(assignedAt), assignedBy,
+                    timestamp(eta), Boolean.TRUE
+                });
+
+                int comments = poisson(random, commentsPerRequest);
+                LocalDateTime commentedAt = createdAt;
+                LocalDateTime currentEta = eta;
+                for (int c = 0; c < comments; c++) {
+                    commentedAt = minBefore(commentedAt.plusMinutes(expMinutes(random, 12 * 60)), now);
+                    String commentedBy = assignedTo != null && random.nextBoolean() ? assignedTo : createdBy;
+                    if (currentEta != null && random.nextInt(10) == 0) {
+                        LocalDateTime newEta = currentEta.plusHours(4 + random.nextInt(72));
+                        String reason = ETA_CHANGE_REASONS[random.nextInt(ETA_CHANGE_REASONS.length)];
+                        commentRows.add(new Object[] {null, requestId, "ETA changed: " + reason, assignedTo,
+                            Timestamp.valueOf(commentedAt), Boolean.TRUE, Timestamp.valueOf(currentEta),
+                            Timestamp.valueOf(newEta), reason, Boolean.TRUE});
+                        currentEta = newEta;
+                    } else {
+                        commentRows.add(new Object[] {null, requestId, sentence(random, 6, 30), commentedBy,
+                            Timestamp.valueOf(commentedAt), Boolean.FALSE, null, null, null, Boolean.TRUE});
+                    }
+                }
+            }
+
+            insertBatch(requestSql, requestRows);
+
+            if (!commentRows.isEmpty()) {
+                for (Object[] row : commentRows) {
+                    row[0] = nextCommentId++;
+                }
+                insertBatch(commentSql, commentRows);
+                commentTotal += commentRows.size();
+            }
+
+            created += size;
+            if (created % (batchSize * 50) == 0 || created == requestCount) {
+                logger.info("Seeded {}/{} requests, {} comments", created, requestCount, commentTotal);
+            }
+        }
+
+        advanceSequence("FLOWAI_REQUESTS_SEQ", nextRequestId - 1);
+        advanceSequence("FLOWAI_REQUEST_COMMENTS_SEQ", nextCommentId - 1);
+        return commentTotal;
+    }
+
+    private long nextFreeId(String tableName, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table(tableName), Long.class);
+        return (maxId != null ? maxId : 0L) + 1;
+    }
+
+    /**
+     * Move the sequence past the highest seeded ID so the application's own inserts don't collide
+     */
+    private void advanceSequence(String sequence, long lastUsedId) {
+        String qualified = table(sequence);
+        if (!oracle) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + qualified + " RESTART WITH " + (lastUsedId + 1));
+            return;
+        }
+        // Oracle has no portable RESTART; raise the increment for a single NEXTVAL instead
+        long current = nextValue(qualified);
+        if (current > lastUsedId) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + qualified + " INCREMENT BY " + (lastUsedId - current + 1));
+        try {
+            nextValue(qualified);
+        } finally {
+            jdbcTemplate.execute("ALTER SEQUENCE " + qualified + " INCREMENT BY 1");
+        }
+    }
+
+    private long nextValue(String sequence) {
+        String sql = oracle ? "SELECT " + sequence + ".NEXTVAL FROM DUAL" : "SELECT NEXT VALUE FOR " + sequence;
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private String table(String name) {
+        return schemaNames.table(name);
+    }
+
+    private void insertBatch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+    }
+
+    private static <T> T pick(Random random, T[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * Low indexes are picked far more often, so a few accounts hold most of the tickets
+     */
+    private static int skewedIndex(Random random, int size) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), 2.5)));
+    }
+
+    private static long expMinutes(Random random, double meanMinutes) {
+        return 1 + (long) (-meanMinutes * Math.log(1 - random.nextDouble()));
+    }
+
+    private static long etaHours(Random random, RequestPriority priority) {
+        switch (priority) {
+            case URGENT:
+                return 4 + random.nextInt(20);
+            case HIGH:
+                return 24 + random.nextInt(48);
+            case MEDIUM:
+                return 48 + random.nextInt(120);
+            default:
+                return 72 + random.nextInt(264);
+        }
+    }
+
+    private static int poisson(Random random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private static LocalDateTime minBefore(LocalDateTime value, LocalDateTime now) {
+        return value.isAfter(now) ? now : value;
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static String title(Random random) {
+        String text = sentence(random, 3, 8);
+        return text.length() > 200 ? text.substring(0, 200) : text;
+    }
+
+    private static String description(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int sentences = 1 + random.nextInt(4);
+        for (int i = 0; i < sentences; i++) {
+            sb.append(sentence(random, 8, 20)).append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    private static String sentence(Random random, int minWords, int maxWords) {
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            sb.append(i == 0 ? capitalize(word) : word).append(i == words - 1 ? "." : " ");
+        }
+        return sb.toString();
+    }
+
+    private static String capitalize(String value) {
+        return value.isEmpty() ? value : Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    /**
+     * Seeded users indexed by account and role, for picking realistic creators and assignees
+     */
+    private static class SeedUsers {
+        private final String[] ntids;
+        private final UserRole[] roles;
+        private final List<List<Integer>> membersByAccount = new ArrayList<>();
+
+        private SeedUsers(int userCount, int accountCount) {
+            ntids = new String[userCount];
+            roles = new UserRole[userCount];
+            for (int i = 0; i < accountCount; i++) {
+                membersByAccount.add(new ArrayList<>());
+            }
+        }
+
+        private void add(int account, int user) {
+            membersByAccount.get(account).add(user);
+        }
+
+        private String randomMember(Random random, int account) {
+            List<Integer> members = membersByAccount.get(account);
+            if (members.isEmpty()) {
+                return ntids[random.nextInt(ntids.length)];
+            }
+            return ntids[members.get(random.nextInt(members.size()))];
+        }
+
+        /**
+         * A member of the account with the role, falling back to any user with the role
+         */
+        private String randomWithRole(Random random, int account, UserRole role) {
+            List<Integer> members = membersByAccount.get(account);
+            int start = members.isEmpty() ? 0 : random.nextInt(members.size());
+            for (int i = 0; i < members.size(); i++) {
+                int user = members.get((start + i) % members.size());
+                if (roles[user] == role) {
+                    return ntids[user];
+                }
+            }
+            int startAll = random.nextInt(ntids.length);
+            for (int i = 0; i < ntids.length; i++) {
+                int user = (startAll + i) % ntids.length;
+                if (roles[user] == role) {
+                    return ntids[user];
+                }
+            }
+            return ntids[startAll];
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.finsight.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource Routing Configuration
+ * Active when finsight.datasource.replica.url is set: read-only service transactions use
+ * the replica pool (finsight.datasource.replica.*), everything else the primary
+ * pool (spring.datasource.*)
+ *
+ * @author Mukund Kute
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "finsight.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("finsight.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(Environment environment) throws Exception {
+        DataSourceProperties properties = Binder.get(environment)
+            .bind("finsight.datasource.replica", DataSourceProperties.class)
+            .get();
+        properties.setBeanClassLoader(getClass().getClassLoader());
+        properties.afterPropertiesSet();
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        // Start even if the replica is down; reads fall back to the primary
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setConnectionTimeout(2000);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${finsight.datasource.replica.transaction-prefixes:com.finsight.service.}") String[] transactionPrefixes,
+            @Value("${finsight.datasource.replica.retry-interval-ms:30000}") long retryIntervalMillis,
+            MeterRegistry meterRegistry) {
+        ReadReplicaRoutingDataSource routing =
+            new ReadReplicaRoutingDataSource(primary, replica, transactionPrefixes, retryIntervalMillis);
+        Gauge.builder("finsight.datasource.replica.available", routing, r -> r.isReplicaAvailable() ? 1 : 0)
+            .description("1 while read-only transactions are routed to the replica, 0 while they fall back to the primary")
+            .register(meterRegistry);
+        logger.info("Read-only transactions in {} are routed to the read replica", String.join(", ", transactionPrefixes));
+        return routing;
+    }
+
+    /**
+     * Replaces the auto-configured "db" health check, which would report DOWN while only the replica is down
+     */
+    @Bean
+    public HealthIndicator dbHealthContributor(@Qualifier("primaryDataSource") DataSource primary) {
+        return new DataSourceHealthIndicator(primary);
+    }
+
+    /**
+     * Always UP (reads fall back to the primary); shows where read-only transactions go
+     */
+    @Bean
+    public HealthIndicator replicaHealthIndicator(ReadReplicaRoutingDataSource routingDataSource) {
+        return () -> Health.up()
+            .withDetail("readOnlyTarget", routingDataSource.isReplicaAvailable() ? "replica" : "primary (fallback)")
+            .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
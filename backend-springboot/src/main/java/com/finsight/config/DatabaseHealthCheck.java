@@ -3,9 +3,10 @@ package com.finsight.config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.core.annotation.Order;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
@@ -14,12 +15,12 @@ import java.sql.DatabaseMetaData;
 
 /**
  * Database Health Check - Logs which database is being used
+ * Runs in the background once the application is ready, so it does not delay startup
  * 
  * @author Mukund Kute
  */
 @Component
-@Order(1)
-public class DatabaseHealthCheck implements CommandLineRunner {
+public class DatabaseHealthCheck {
 
     private static final Logger logger = LoggerFactory.getLogger(DatabaseHealthCheck.class);
 
@@ -29,8 +30,12 @@ public class DatabaseHealthCheck implements CommandLineRunner {
     @Autowired(required = false)
     private JdbcTemplate jdbcTemplate;
 
-    @Override
-    public void run(String... args) throws Exception {
+    @Autowired
+    private SchemaNames schemaNames;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
         // Check if DataSource is available
         if (dataSource == null) {
             logger.warn("DataSource is not configured - skipping database health check");
@@ -59,13 +64,14 @@ public class DatabaseHealthCheck implements CommandLineRunner {
             logger.info("Username: {}", maskedUsername);
             logger.info("=========================================");
 
-            // Check if FLOWAI_USERS table exists
+            // Check if FLOWAI_USERS table exists in the default schema (without counting its rows)
+            String usersTable = schemaNames.table("FLOWAI_USERS");
             try {
-                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM FLOWAI_USERS", Integer.class);
-                logger.info("FLOWAI_USERS table EXISTS in database");
+                jdbcTemplate.queryForList("SELECT 1 FROM " + usersTable + " WHERE 1 = 0");
+                logger.info("{} table EXISTS in database", usersTable);
             } catch (Exception e) {
-                logger.warn("FLOWAI_USERS table DOES NOT EXIST in database");
-                logger.warn("Hibernate will create it on first entity save");
+                logger.warn("{} table DOES NOT EXIST in database", usersTable);
+                logger.warn("The Flyway migrations have not run, or the default schema is wrong (spring.jpa.properties.hibernate.default_schema)");
             }
         } catch (Exception e) {
             logger.error("Error checking database connection: {}", e.getMessage());
@@ -0,0 +1,329 @@
+package com.finsight.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency Filter
+ * Makes client retries of ticket writes (POST/PUT/DELETE under /api/requests) safe: a request
+ * with an Idempotency-Key header runs once, and a retry with the same key, caller, method and
+ * path gets the recorded response back (status, headers such as Location, body; with
+ * Idempotent-Replayed: true) without running again
+ *
+ * - Only successful (2xx) responses are recorded; after a failure the key can be retried
+ * - A duplicate that arrives while the first request is still running waits for its result
+ * - Reusing a key with a different request body is rejected with 422
+ *
+ * Responses are kept in memory for finsight.idempotency.ttl-minutes, at most
+ * finsight.idempotency.max-entries of them (oldest dropped first), so keys are per instance.
+ * Outcomes are counted as finsight.idempotency.requests (outcome tag)
+ *
+ * @author Mukund Kute
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // Set by the container for each response (or from the body), so not recorded for replay
+    private static final Set<String> UNRECORDED_HEADERS = Set.of(
+        "content-type", "content-length", "transfer-encoding", "connection", "date", "set-cookie");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${finsight.idempotency.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    @Value("${finsight.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${finsight.idempotency.wait-seconds:30}")
+    private long waitSeconds;
+
+    // Insertion order, so the eldest entry is dropped when the store is full
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+            || !request.getRequestURI().startsWith(request.getContextPath() + "/api/requests")
+            || !("POST".equals(method) || "PUT".equals(method) || "DELETE".equals(method));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                IDEMPOTENCY_KEY_HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        byte[] fingerprint = sha256(body);
+        String ntid = request.getHeader("X-User-NTID");
+        String storeKey = (ntid != null && !ntid.trim().isEmpty() ? User.canonicalNtid(ntid) : "address:" + request.getRemoteAddr())
+            + " " + request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+
+        while (true) {
+            Entry entry = new Entry(fingerprint, System.nanoTime());
+            Entry existing = putIfAbsent(storeKey, entry);
+            if (existing == null) {
+                execute(new CachedBodyRequest(request, body), response, chain, storeKey, entry);
+                return;
+            }
+            if (!Arrays.equals(existing.fingerprint, fingerprint)) {
+                count("mismatch");
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+                return;
+            }
+            boolean alreadyDone = existing.result.isDone();
+            RecordedResponse recorded = await(existing);
+            if (recorded == RecordedResponse.PENDING) {
+                count("in_progress");
+                writeError(response, HttpStatus.CONFLICT, "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still in progress");
+                return;
+            }
+            if (recorded != null) {
+                count(alreadyDone ? "replayed" : "coalesced");
+                logger.debug("Replaying {} response for {}", recorded.status, storeKey);
+                recorded.writeTo(response);
+                return;
+            }
+            // The first attempt failed and released the key: run this one instead
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                         String storeKey, Entry entry) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        RecordedResponse recorded = null;
+        try {
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() >= 200 && wrapper.getStatus() < 300) {
+                recorded = new RecordedResponse(wrapper.getStatus(), wrapper.getContentType(), headers(wrapper),
+                    wrapper.getContentAsByteArray());
+            }
+        } finally {
+            if (recorded == null) {
+                remove(storeKey, entry);
+            }
+            entry.result.complete(recorded);
+            wrapper.copyBodyToResponse();
+        }
+        count("executed");
+    }
+
+    private static Map<String, List<String>> headers(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!UNRECORDED_HEADERS.contains(name.toLowerCase())) {
+                headers.putIfAbsent(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private RecordedResponse await(Entry entry) throws IOException {
+        try {
+            return entry.result.get(waitSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            return RecordedResponse.PENDING;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a duplicate request", e);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private synchronized Entry putIfAbsent(String storeKey, Entry entry) {
+        Entry existing = entries.get(storeKey);
+        if (existing != null && !existing.isExpired(TimeUnit.MINUTES.toNanos(ttlMinutes))) {
+            return existing;
+        }
+        entries.remove(storeKey);
+        entries.put(storeKey, entry);
+        while (entries.size() > maxEntries) {
+            entries.remove(entries.keySet().iterator().next());
+        }
+        return null;
+    }
+
+    private synchronized void remove(String storeKey, Entry entry) {
+        entries.remove(storeKey, entry);
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("finsight.idempotency.requests", "outcome", outcome).increment();
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        logger.warn("ERROR: {}", message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", message));
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class Entry {
+        private final byte[] fingerprint;
+        private final long createdAt;
+        private final CompletableFuture<RecordedResponse> result = new CompletableFuture<>();
+
+        private Entry(byte[] fingerprint, long createdAt) {
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return result.isDone() && System.nanoTime() - createdAt > ttlNanos;
+        }
+    }
+
+    private static class RecordedResponse {
+        private static final RecordedResponse PENDING = new RecordedResponse(0, null, Map.of(), new byte[0]);
+
+        private final int status;
+        private final String contentType;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+
+        private RecordedResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        private void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            // Headers from the filters before this one (CORS, security) are already set again
+            headers.forEach((name, values) -> {
+                if (!response.containsHeader(name)) {
+                    values.forEach(value -> response.addHeader(name, value));
+                }
+            });
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * Request whose body was already read (for the fingerprint) and is served again from memory
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory: it is available now and then fully read
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
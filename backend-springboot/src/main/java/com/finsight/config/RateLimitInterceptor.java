@@ -0,0 +1,168 @@
+package com.finsight.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit Interceptor
+ * Protects the database pool from report storms. Endpoints are split into two classes:
+ * REPORT (the statistics and dashboard endpoints in finsight.rate-limit.report-endpoints)
+ * and TICKET (every other /api endpoint)
+ *
+ * - Each caller (X-User-NTID, or the client address without one) gets a token bucket per
+ *   class; an empty bucket answers 429 with Retry-After
+ * - Each class has its own concurrency bulkhead; when it is full the request waits up to
+ *   max-wait-ms and then answers 503, so reports can never hold every connection that
+ *   ticket creation and status updates need
+ *
+ * Rejections are counted as finsight.http.server.rejected (class and reason tags)
+ *
+ * @author Mukund Kute
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitInterceptor.class);
+
+    private static final String PERMIT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".permit";
+
+    // Idle (refilled) buckets are dropped once this many callers are tracked
+    private static final int MAX_TRACKED_BUCKETS = 10_000;
+
+    public enum EndpointClass { REPORT, TICKET }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${finsight.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${finsight.rate-limit.report-endpoints:}")
+    private Set<String> reportEndpoints;
+
+    @Value("${finsight.rate-limit.report.capacity:10}")
+    private int reportCapacity;
+
+    @Value("${finsight.rate-limit.report.refill-per-minute:20}")
+    private int reportRefillPerMinute;
+
+    @Value("${finsight.rate-limit.ticket.capacity:100}")
+    private int ticketCapacity;
+
+    @Value("${finsight.rate-limit.ticket.refill-per-minute:600}")
+    private int ticketRefillPerMinute;
+
+    @Value("${finsight.bulkhead.report.max-concurrent:4}")
+    private int reportMaxConcurrent;
+
+    @Value("${finsight.bulkhead.report.max-wait-ms:0}")
+    private long reportMaxWaitMs;
+
+    @Value("${finsight.bulkhead.ticket.max-concurrent:50}")
+    private int ticketMaxConcurrent;
+
+    @Value("${finsight.bulkhead.ticket.max-wait-ms:500}")
+    private long ticketMaxWaitMs;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private Semaphore reportBulkhead;
+
+    private Semaphore ticketBulkhead;
+
+    @PostConstruct
+    public void init() {
+        reportBulkhead = new Semaphore(reportMaxConcurrent);
+        ticketBulkhead = new Semaphore(ticketMaxConcurrent);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!enabled || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        EndpointClass endpointClass = classify(request);
+        String caller = callerKey(request);
+
+        long waitNanos = bucketFor(endpointClass, caller).tryConsume();
+        if (waitNanos > 0) {
+            logger.debug("Rate limit exceeded: {} on {} {} ({})", caller, request.getMethod(), request.getRequestURI(), endpointClass);
+            reject(response, endpointClass, "rate_limit", HttpStatus.TOO_MANY_REQUESTS,
+                TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1, "Too many requests, please retry later");
+            return false;
+        }
+
+        Semaphore bulkhead = endpointClass == EndpointClass.REPORT ? reportBulkhead : ticketBulkhead;
+        long maxWaitMs = endpointClass == EndpointClass.REPORT ? reportMaxWaitMs : ticketMaxWaitMs;
+        if (!bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+            logger.debug("Bulkhead full: {} {} ({})", request.getMethod(), request.getRequestURI(), endpointClass);
+            reject(response, endpointClass, "bulkhead", HttpStatus.SERVICE_UNAVAILABLE, 1,
+                "Server is busy, please retry later");
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, bulkhead);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object bulkhead = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (bulkhead != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            ((Semaphore) bulkhead).release();
+        }
+    }
+
+    private EndpointClass classify(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null && reportEndpoints.contains(pattern.toString()) ? EndpointClass.REPORT : EndpointClass.TICKET;
+    }
+
+    private String callerKey(HttpServletRequest request) {
+        String ntid = request.getHeader("X-User-NTID");
+        return ntid != null && !ntid.trim().isEmpty() ? User.canonicalNtid(ntid) : "address:" + request.getRemoteAddr();
+    }
+
+    private TokenBucket bucketFor(EndpointClass endpointClass, String caller) {
+        if (buckets.size() > MAX_TRACKED_BUCKETS) {
+            buckets.values().removeIf(TokenBucket::isFull);
+        }
+        return buckets.computeIfAbsent(endpointClass + ":" + caller, key -> endpointClass == EndpointClass.REPORT
+            ? new TokenBucket(reportCapacity, reportRefillPerMinute)
+            : new TokenBucket(ticketCapacity, ticketRefillPerMinute));
+    }
+
+    private void reject(HttpServletResponse response, EndpointClass endpointClass, String reason, HttpStatus status,
+                        long retryAfterSeconds, String message) throws IOException {
+        meterRegistry.counter("finsight.http.server.rejected", "class", endpointClass.name(), "reason", reason).increment();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", message));
+    }
+}
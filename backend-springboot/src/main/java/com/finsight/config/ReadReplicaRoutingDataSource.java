@@ -0,0 +1,103 @@
+package com.finsight.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Read Replica Routing DataSource
+ * Hands out replica connections to read-only transactions started by the application's
+ * service methods, and primary connections to everything else
+ *
+ * Spring Data repository methods are read-only transactions too; they only go to the
+ * replica when called inside a read-only service method, so a plain lookup right after a
+ * write still reads from the primary.
+ *
+ * When the replica cannot hand out a connection it is marked down and read-only work
+ * falls back to the primary; it is tried again after the retry interval.
+ * Wrap in a LazyConnectionDataSourceProxy so the read-only flag is known when the
+ * connection is fetched.
+ *
+ * @author Mukund Kute
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final String[] transactionPrefixes;
+    private final long retryIntervalMillis;
+
+    private volatile long replicaDownUntil = 0;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, String[] transactionPrefixes,
+                                        long retryIntervalMillis) {
+        this.primary = primary;
+        this.replica = replica;
+        this.transactionPrefixes = transactionPrefixes;
+        this.retryIntervalMillis = retryIntervalMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!useReplica()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!useReplica()) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * True while the replica is not marked down
+     */
+    public boolean isReplicaAvailable() {
+        return System.currentTimeMillis() >= replicaDownUntil;
+    }
+
+    private boolean useReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || !isReplicaAvailable()) {
+            return false;
+        }
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transactionName == null) {
+            return false;
+        }
+        for (String prefix : transactionPrefixes) {
+            if (transactionName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void markReplicaDown(SQLException e) {
+        boolean wasAvailable = isReplicaAvailable();
+        replicaDownUntil = System.currentTimeMillis() + retryIntervalMillis;
+        if (wasAvailable) {
+            logger.warn("Read replica unavailable, using the primary for {} ms: {}", retryIntervalMillis, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.finsight.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Request Query Counter
+ * Counts the SQL statements Hibernate prepares while serving each HTTP request and records
+ * them as the finsight.http.server.queries distribution (tagged by method and URI pattern)
+ *
+ * Statements run on other threads (parallel fan-out lookups) are not counted; second-level
+ * cache hits are not statements, so they are not counted either
+ *
+ * @author Mukund Kute
+ */
+@Component
+public class RequestQueryCounter implements StatementInspector, HandlerInterceptor {
+
+    private static final String COUNT_ATTRIBUTE = RequestQueryCounter.class.getName() + ".count";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String inspect(String sql) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            AtomicInteger count = (AtomicInteger) attributes.getAttribute(COUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (count == null) {
+                count = new AtomicInteger();
+                attributes.setAttribute(COUNT_ATTRIBUTE, count, RequestAttributes.SCOPE_REQUEST);
+            }
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AtomicInteger count = (AtomicInteger) request.getAttribute(COUNT_ATTRIBUTE);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("finsight.http.server.queries")
+            .description("SQL statements per HTTP request")
+            .baseUnit("statements")
+            .tag("method", request.getMethod())
+            .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(count != null ? count.get() : 0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.finsight.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schema Names
+ * Qualifies table and sequence names for SQL run with JDBC (bulk inserts, archiving), so it
+ * reaches the same schema as Hibernate (spring.jpa.properties.hibernate.default_schema) even
+ * when the database user is not the schema owner. Without a default schema (H2) names stay bare
+ *
+ * @author Mukund Kute
+ */
+@Component
+public class SchemaNames {
+
+    @Value("${spring.jpa.properties.hibernate.default_schema:}")
+    private String schema;
+
+    public String table(String name) {
+        return schema == null || schema.isBlank() ? name : schema + "." + name;
+    }
+}
@@ -1,12 +1,20 @@
 package com.finsight.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -17,7 +25,9 @@ import java.util.List;
 
 /**
  * Security Configuration
- * For now, we'll allow all requests - authentication will be handled at controller level
+ * For now, we'll allow all requests - authentication will be handled at controller level.
+ * Actuator endpoints other than health and info (metrics reveal per-route latency, pool and
+ * Hibernate state) need HTTP Basic with the scrape user (finsight.actuator.username/password)
  * 
  * @author Mukund Kute
  */
@@ -25,7 +35,51 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
+    @Value("${finsight.actuator.username:metrics}")
+    private String actuatorUsername;
+
+    @Value("${finsight.actuator.password:}")
+    private String actuatorPassword;
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/actuator/**")
+            .csrf(csrf -> csrf.disable())
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                .anyRequest().hasRole("ACTUATOR")
+            )
+            .httpBasic(Customizer.withDefaults())
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            );
+
+        return http.build();
+    }
+
+    /**
+     * Scrape user for the actuator endpoints; without a password there is none and they stay closed
+     */
+    @Bean
+    public UserDetailsService actuatorUserDetailsService(PasswordEncoder passwordEncoder) {
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager();
+        if (actuatorPassword == null || actuatorPassword.isBlank()) {
+            logger.info("finsight.actuator.password is not set, /actuator/prometheus is disabled");
+        } else {
+            users.createUser(User.withUsername(actuatorUsername)
+                .password(passwordEncoder.encode(actuatorPassword))
+                .roles("ACTUATOR")
+                .build());
+        }
+        return users;
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -36,7 +90,8 @@ public class SecurityConfig {
                 .requestMatchers("/api/requests/**").permitAll() // Will be secured at controller level
                 .requestMatchers("/api/user-accounts/**").permitAll() // Will be secured at controller level
                 .requestMatchers("/api/users/**").permitAll() // Will be secured at controller level
-                .requestMatchers("/actuator/**").permitAll()
+                .requestMatchers("/api/reports/**").permitAll() // Will be secured at controller level
+                .requestMatchers("/ws/**").permitAll() // Board socket, secured in BoardWebSocketHandler
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
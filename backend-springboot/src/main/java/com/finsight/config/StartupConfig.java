@@ -0,0 +1,53 @@
+package com.finsight.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+
+/**
+ * Startup Configuration
+ * Logs the time to ready (also exported as the application.ready.time metric) and
+ * which fast-startup features are active
+ *
+ * With spring.main.lazy-initialization=true (faststart profile) the data source, the
+ * JPA entity manager factory and the security filter chain are still created at startup,
+ * so a bad database configuration fails the deploy instead of the first request
+ *
+ * @author Mukund Kute
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupConfig.class);
+
+    @Value("${spring.main.lazy-initialization:false}")
+    private boolean lazyInitialization;
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            DataSource.class, EntityManagerFactory.class, SecurityFilterChain.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logTimeToReady(ApplicationReadyEvent event) {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        boolean sharedArchive = runtime.getInputArguments().stream()
+            .anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile"));
+        logger.info("Ready in {} ms since JVM start ({} ms in Spring) - AOT {}, lazy init {}, CDS archive {}",
+            runtime.getUptime(), event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : null,
+            AotDetector.useGeneratedArtifacts(), lazyInitialization, sharedArchive);
+    }
+}
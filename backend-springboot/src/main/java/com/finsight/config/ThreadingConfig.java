@@ -0,0 +1,54 @@
+package com.finsight.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Threading Configuration
+ * Enables @Async on the auto-configured application task executor, and @Scheduled
+ * jobs (ticket archiving) on the auto-configured task scheduler. With
+ * spring.threads.virtual.enabled=true on a JDK 21+ runtime, Tomcat, @Async and
+ * service fan-out all run on virtual threads; on older runtimes the property is ignored
+ *
+ * @author Mukund Kute
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ThreadingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${finsight.fan-out.max-parallel:1}")
+    private int fanOutMaxParallel;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            logger.info("Virtual threads enabled for Tomcat and @Async (fan-out max parallel {}, DB pool max {})",
+                fanOutMaxParallel, maximumPoolSize);
+        } else if (requested) {
+            logger.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; using platform threads",
+                Runtime.version().feature());
+        } else {
+            logger.info("Platform threads for Tomcat and @Async (fan-out max parallel {}, DB pool max {})",
+                fanOutMaxParallel, maximumPoolSize);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.finsight.config;
+
+import com.finsight.controller.BoardWebSocketHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket Configuration
+ * Plain WebSocket endpoints (no STOMP/SockJS, so browsers need no client library):
+ * /ws/board pushes live kanban board changes
+ *
+ * @author Mukund Kute
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    @Autowired
+    private BoardWebSocketHandler boardWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(boardWebSocketHandler, "/ws/board").setAllowedOrigins("*");
+    }
+}
@@ -2,6 +2,8 @@ package com.finsight.controller;
 
 import com.finsight.entity.Account;
 import com.finsight.repository.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +22,8 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class AccountController {
 
+    private static final Logger logger = LoggerFactory.getLogger(AccountController.class);
+
     @Autowired
     private AccountRepository accountRepository;
 
@@ -28,8 +32,7 @@ public class AccountController {
      */
     @GetMapping("/test")
     public ResponseEntity<?> testAccounts() {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/accounts/test");
+        logger.debug("API CALLED: GET /api/accounts/test");
         
         Map<String, Object> response = new HashMap<>();
         response.put("status", "success");
@@ -39,15 +42,13 @@ public class AccountController {
         try {
             long count = accountRepository.count();
             response.put("totalAccounts", count);
-            System.out.println("Total accounts in database: " + count);
+            logger.debug("Total accounts in database: {}", count);
         } catch (Exception e) {
             response.put("error", "Database error: " + e.getMessage());
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/accounts/test failed", e);
         }
         
-        System.out.println("Response: " + response);
-        System.out.println("=========================================\n");
+        logger.debug("Response: {}", response);
         return ResponseEntity.ok(response);
     }
 
@@ -57,26 +58,20 @@ public class AccountController {
      */
     @GetMapping("/active")
     public ResponseEntity<?> getActiveAccounts() {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/accounts/active");
+        logger.debug("API CALLED: GET /api/accounts/active");
         
         try {
-            // First, try to get count
-            long totalCount = accountRepository.count();
-            System.out.println("Total accounts in database: " + totalCount);
-            
             // Get all accounts from the table, ordered by account name
             List<Account> accounts = accountRepository.findAllByOrderByAccountNameAsc();
-            System.out.println("Retrieved " + accounts.size() + " accounts from repository");
+            logger.debug("Retrieved {} accounts from repository", accounts.size());
             
             if (accounts.isEmpty()) {
-                System.out.println("WARNING: No accounts found in database");
+                logger.warn("No accounts found in database");
                 Map<String, Object> response = new HashMap<>();
                 response.put("accounts", new java.util.ArrayList<>());
                 response.put("message", "No accounts found");
                 response.put("count", 0);
-                System.out.println("Response: " + response);
-                System.out.println("=========================================\n");
+                logger.debug("Response: {}", response);
                 return ResponseEntity.ok(response);
             }
             
@@ -87,24 +82,21 @@ public class AccountController {
                 accountMap.put("accountId", account.getAccountId());
                 accountMap.put("accountName", account.getAccountName());
                 accountList.add(accountMap);
-                System.out.println("  - Account ID: " + account.getAccountId() + ", Name: " + account.getAccountName());
+                logger.debug("- Account ID: {}, Name: {}", account.getAccountId(), account.getAccountName());
             }
             
             Map<String, Object> response = new HashMap<>();
             response.put("accounts", accountList);
             response.put("count", accountList.size());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(accountList);
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/accounts/active failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", "Failed to fetch accounts: " + e.getMessage());
             error.put("details", e.getClass().getSimpleName());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(500).body(error);
         }
     }
@@ -114,12 +106,11 @@ public class AccountController {
      */
     @GetMapping("/all")
     public ResponseEntity<?> getAllAccounts() {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/accounts/all");
+        logger.debug("API CALLED: GET /api/accounts/all");
         
         try {
             List<Account> accounts = accountRepository.findAll();
-            System.out.println("Found " + accounts.size() + " accounts using findAll()");
+            logger.debug("Found {} accounts using findAll()", accounts.size());
             
             List<Map<String, Object>> accountList = new java.util.ArrayList<>();
             for (Account account : accounts) {
@@ -130,16 +121,13 @@ public class AccountController {
                 accountList.add(accountMap);
             }
             
-            System.out.println("Response: " + accountList);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", accountList);
             return ResponseEntity.ok(accountList);
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/accounts/all failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", "Failed to fetch accounts: " + e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(500).body(error);
         }
     }
@@ -7,6 +7,8 @@ import com.finsight.entity.User;
 import com.finsight.service.AuthenticationService;
 import com.finsight.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -26,6 +28,8 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class AuthController {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+
     @Autowired
     private AuthenticationService authenticationService;
 
@@ -40,66 +44,59 @@ public class AuthController {
      */
     @PostMapping(value = "/register", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
     public ResponseEntity<?> registerUser(@RequestBody String requestBody) {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: POST /api/auth/register");
-        System.out.println("Request Body (Raw): " + requestBody);
+        logger.debug("API CALLED: POST /api/auth/register");
         
         try {
             // Parse JSON from request body (handles both application/json and text/plain)
             UserRegistrationDTO registrationDTO = objectMapper.readValue(requestBody, UserRegistrationDTO.class);
             
-            System.out.println("Parsed Registration Data:");
-            System.out.println("  - NTID: " + registrationDTO.getNtid());
-            System.out.println("  - Email: " + registrationDTO.getEmail());
-            System.out.println("  - Account: " + registrationDTO.getAccount());
-            System.out.println("  - Password: ***");
+            logger.debug("Parsed Registration Data:");
+            logger.debug("- NTID: {}", registrationDTO.getNtid());
+            logger.debug("- Email: {}", registrationDTO.getEmail());
+            logger.debug("- Account: {}", registrationDTO.getAccount());
             
             // Validate required fields
             if (registrationDTO.getNtid() == null || registrationDTO.getNtid().trim().isEmpty()) {
-                System.out.println("ERROR: NTID is required");
+                logger.warn("NTID is required");
                 Map<String, String> error = new HashMap<>();
                 error.put("error", "NTID is required");
-                System.out.println("Response: " + error);
-                System.out.println("=========================================\n");
+                logger.debug("Response: {}", error);
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
             
             if (registrationDTO.getEmail() == null || registrationDTO.getEmail().trim().isEmpty()) {
-                System.out.println("ERROR: Email is required");
+                logger.warn("Email is required");
                 Map<String, String> error = new HashMap<>();
                 error.put("error", "Email is required");
-                System.out.println("Response: " + error);
-                System.out.println("=========================================\n");
+                logger.debug("Response: {}", error);
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
             
             if (registrationDTO.getPassword() == null || registrationDTO.getPassword().trim().isEmpty()) {
-                System.out.println("ERROR: Password is required");
+                logger.warn("Password is required");
                 Map<String, String> error = new HashMap<>();
                 error.put("error", "Password is required");
-                System.out.println("Response: " + error);
-                System.out.println("=========================================\n");
+                logger.debug("Response: {}", error);
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
             
             if (registrationDTO.getAccount() == null || registrationDTO.getAccount().trim().isEmpty()) {
-                System.out.println("ERROR: Account is required");
+                logger.warn("Account is required");
                 Map<String, String> error = new HashMap<>();
                 error.put("error", "Account is required");
-                System.out.println("Response: " + error);
-                System.out.println("=========================================\n");
+                logger.debug("Response: {}", error);
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
             
-            System.out.println("Calling UserService.registerUser()...");
+            logger.debug("Calling UserService.registerUser()...");
             User user = userService.registerUser(registrationDTO);
             
-            System.out.println("User Registration SUCCESS:");
-            System.out.println("  - Created User NTID: " + user.getNtid());
-            System.out.println("  - Created User Email: " + user.getEmail());
-            System.out.println("  - Created User Role: " + user.getRole());
-            System.out.println("  - Created User Account: " + user.getAccount());
-            System.out.println("  - Created User Account ID: " + user.getAccountId());
+            logger.info("User registered: {}", user.getNtid());
+            logger.debug("- Created User NTID: {}", user.getNtid());
+            logger.debug("- Created User Email: {}", user.getEmail());
+            logger.debug("- Created User Role: {}", user.getRole());
+            logger.debug("- Created User Account: {}", user.getAccount());
+            logger.debug("- Created User Account ID: {}", user.getAccountId());
             
             Map<String, Object> response = new HashMap<>();
             response.put("message", "User registered successfully");
@@ -109,30 +106,25 @@ public class AuthController {
             response.put("account", user.getAccount());
             response.put("accountId", user.getAccountId());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-            System.out.println("ERROR: JSON Parsing Failed - " + e.getMessage());
+            logger.warn("JSON Parsing Failed - {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
             error.put("error", "Invalid JSON format: " + e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         } catch (RuntimeException e) {
-            System.out.println("ERROR: Registration Failed - " + e.getMessage());
+            logger.warn("Registration Failed - {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         } catch (Exception e) {
-            System.out.println("ERROR: Unexpected Exception - " + e.getMessage());
-            e.printStackTrace();
+            logger.error("POST /api/auth/register failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", "Registration failed: " + e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -143,69 +135,58 @@ public class AuthController {
      */
     @PostMapping(value = "/login", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
     public ResponseEntity<?> login(@RequestBody String requestBody) {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: POST /api/auth/login");
-        System.out.println("Request Body (Raw): " + requestBody);
+        logger.debug("API CALLED: POST /api/auth/login");
         
         try {
             // Parse JSON from request body (handles both application/json and text/plain)
             LoginRequestDTO loginRequest = objectMapper.readValue(requestBody, LoginRequestDTO.class);
             
-            System.out.println("Parsed Login Data:");
-            System.out.println("  - NTID: " + loginRequest.getNtid());
-            System.out.println("  - Password: " + (loginRequest.getPassword() != null ? "***" : "null"));
+            logger.debug("Parsed Login Data:");
+            logger.debug("- NTID: {}", loginRequest.getNtid());
             
             // Validate required fields
             if (loginRequest.getNtid() == null || loginRequest.getNtid().trim().isEmpty()) {
-                System.out.println("ERROR: NTID is required");
+                logger.warn("NTID is required");
                 Map<String, String> error = new HashMap<>();
                 error.put("error", "NTID is required");
-                System.out.println("Response: " + error);
-                System.out.println("=========================================\n");
+                logger.debug("Response: {}", error);
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
             
             if (loginRequest.getPassword() == null || loginRequest.getPassword().trim().isEmpty()) {
-                System.out.println("ERROR: Password is required");
+                logger.warn("Password is required");
                 Map<String, String> error = new HashMap<>();
                 error.put("error", "Password is required");
-                System.out.println("Response: " + error);
-                System.out.println("=========================================\n");
+                logger.debug("Response: {}", error);
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
             
-            System.out.println("Calling AuthenticationService.authenticate()...");
+            logger.debug("Calling AuthenticationService.authenticate()...");
             AuthResponseDTO response = authenticationService.authenticate(loginRequest);
             
-            System.out.println("Login SUCCESS:");
-            System.out.println("  - Authenticated NTID: " + response.getNtid());
-            System.out.println("  - Authenticated Email: " + response.getEmail());
-            System.out.println("  - Authenticated Role: " + response.getRole());
-            System.out.println("  - Token: " + response.getToken());
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.info("User logged in: {}", response.getNtid());
+            logger.debug("- Authenticated NTID: {}", response.getNtid());
+            logger.debug("- Authenticated Email: {}", response.getEmail());
+            logger.debug("- Authenticated Role: {}", response.getRole());
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
         } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-            System.out.println("ERROR: JSON Parsing Failed - " + e.getMessage());
+            logger.warn("JSON Parsing Failed - {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
             error.put("error", "Invalid JSON format: " + e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         } catch (RuntimeException e) {
-            System.out.println("ERROR: Authentication Failed - " + e.getMessage());
+            logger.warn("Authentication Failed - {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         } catch (Exception e) {
-            System.out.println("ERROR: Unexpected Exception - " + e.getMessage());
-            e.printStackTrace();
+            logger.error("POST /api/auth/login failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", "Login failed: " + e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -215,29 +196,27 @@ public class AuthController {
      */
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser(@RequestHeader(value = "X-User-NTID", required = false) String ntid) {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/auth/me");
-        System.out.println("Request Header - X-User-NTID: " + ntid);
+        logger.debug("API CALLED: GET /api/auth/me");
+        logger.debug("Request Header - X-User-NTID: {}", ntid);
         
         if (ntid == null || ntid.isEmpty()) {
-            System.out.println("ERROR: NTID not provided in header");
+            logger.warn("NTID not provided in header");
             Map<String, String> error = new HashMap<>();
             error.put("error", "NTID not provided");
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         }
 
         try {
-            System.out.println("Calling UserService.getUserByNtid() for NTID: " + ntid);
+            logger.debug("Calling UserService.getUserByNtid() for NTID: {}", ntid);
             User user = userService.getUserByNtid(ntid);
             
-            System.out.println("User Found:");
-            System.out.println("  - NTID: " + user.getNtid());
-            System.out.println("  - Email: " + user.getEmail());
-            System.out.println("  - Role: " + user.getRole());
-            System.out.println("  - Account: " + user.getAccount());
-            System.out.println("  - Account ID: " + user.getAccountId());
+            logger.debug("User Found:");
+            logger.debug("- NTID: {}", user.getNtid());
+            logger.debug("- Email: {}", user.getEmail());
+            logger.debug("- Role: {}", user.getRole());
+            logger.debug("- Account: {}", user.getAccount());
+            logger.debug("- Account ID: {}", user.getAccountId());
             
             Map<String, Object> response = new HashMap<>();
             response.put("ntid", user.getNtid());
@@ -246,15 +225,13 @@ public class AuthController {
             response.put("account", user.getAccount());
             response.put("accountId", user.getAccountId());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
-            System.out.println("ERROR: User Not Found - " + e.getMessage());
+            logger.warn("User Not Found - {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
         }
     }
@@ -0,0 +1,91 @@
+package com.finsight.controller;
+
+import com.finsight.entity.User;
+import com.finsight.service.BoardService;
+import com.finsight.service.CallerContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Board WebSocket Handler
+ * ws://.../ws/board?accountId={id}&ntid={ntid}: live kanban board of one account.
+ * Browsers cannot set headers on a WebSocket handshake, so the caller's NTID is a query parameter.
+ * ADMIN can watch any account, SCRUM_MASTER the accounts they handle, MANAGER their own account.
+ * The server sends a snapshot, then diffs (see BoardService); messages from the client are ignored
+ *
+ * @author Mukund Kute
+ */
+@Component
+public class BoardWebSocketHandler extends TextWebSocketHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardWebSocketHandler.class);
+
+    private static final String ACCOUNT_ID = "accountId";
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CallerContext callerContext;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams();
+        String ntid = params.getFirst("ntid");
+        String accountIdParam = params.getFirst(ACCOUNT_ID);
+        logger.debug("WS CONNECTED: /ws/board - accountId: {}, ntid: {}", accountIdParam, ntid);
+
+        Long accountId;
+        try {
+            accountId = Long.valueOf(accountIdParam);
+        } catch (NumberFormatException e) {
+            logger.warn("ERROR: /ws/board - invalid accountId: {}", accountIdParam);
+            session.close(CloseStatus.BAD_DATA.withReason("accountId is required"));
+            return;
+        }
+        User user = ntid != null ? callerContext.findUser(ntid.trim()).orElse(null) : null;
+        if (user == null || !boardService.canView(user, accountId)) {
+            logger.warn("ERROR: /ws/board - {} may not view the board of account {}", ntid, accountId);
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Not allowed to view this board"));
+            return;
+        }
+
+        session.getAttributes().put(ACCOUNT_ID, accountId);
+        boardService.subscribe(session, accountId);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        // Server-push only
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        logger.debug("WS ERROR: /ws/board - session {}: {}", session.getId(), exception.getMessage());
+        unsubscribe(session);
+        if (session.isOpen()) {
+            session.close(CloseStatus.SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        logger.debug("WS CLOSED: /ws/board - session {}: {}", session.getId(), status);
+        unsubscribe(session);
+    }
+
+    private void unsubscribe(WebSocketSession session) {
+        Long accountId = (Long) session.getAttributes().get(ACCOUNT_ID);
+        if (accountId != null) {
+            boardService.unsubscribe(session, accountId);
+        }
+    }
+}
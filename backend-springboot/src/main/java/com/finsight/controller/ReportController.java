@@ -0,0 +1,158 @@
+package com.finsight.controller;
+
+import com.finsight.dto.ReportJobDTO;
+import com.finsight.dto.ReportJobRequestDTO;
+import com.finsight.service.ReportJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Report Controller
+ * Background reports: submit a job, poll its progress, download the result file
+ *
+ * @author Mukund Kute
+ */
+@RestController
+@RequestMapping("/api/reports")
+@CrossOrigin(origins = "*")
+public class ReportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportController.class);
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    /**
+     * Queue a report; answers 202 with the job, whose jobId is used to poll and download
+     */
+    @PostMapping
+    public ResponseEntity<?> submitReport(
+            @RequestBody ReportJobRequestDTO requestDTO,
+            @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
+
+        logger.debug("API CALLED: POST /api/reports");
+
+        try {
+            if (userNtid == null || userNtid.trim().isEmpty()) {
+                return error(HttpStatus.UNAUTHORIZED, "User NTID is required in header X-User-NTID");
+            }
+
+            ReportJobDTO job = reportJobService.submit(requestDTO, userNtid);
+
+            logger.debug("Response: {}", job.getJobId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+
+        } catch (IllegalStateException e) {
+            logger.warn("ERROR: POST /api/reports - {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            logger.error("POST /api/reports failed", e);
+            return error(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * The caller's report jobs, newest first
+     */
+    @GetMapping
+    public ResponseEntity<?> getReports(
+            @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
+
+        logger.debug("API CALLED: GET /api/reports");
+
+        try {
+            if (userNtid == null || userNtid.trim().isEmpty()) {
+                return error(HttpStatus.UNAUTHORIZED, "User NTID is required in header X-User-NTID");
+            }
+
+            List<ReportJobDTO> jobs = reportJobService.getJobs(userNtid);
+
+            logger.debug("Returning {} report jobs", jobs.size());
+            return ResponseEntity.ok(jobs);
+
+        } catch (Exception e) {
+            logger.error("GET /api/reports failed", e);
+            return error(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Status and progress of a report job
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getReport(
+            @PathVariable String jobId,
+            @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
+
+        logger.debug("API CALLED: GET /api/reports/{}", jobId);
+
+        try {
+            if (userNtid == null || userNtid.trim().isEmpty()) {
+                return error(HttpStatus.UNAUTHORIZED, "User NTID is required in header X-User-NTID");
+            }
+
+            return ResponseEntity.ok(reportJobService.getJob(jobId, userNtid));
+
+        } catch (Exception e) {
+            logger.error("GET /api/reports/{jobId} failed", e);
+            return error(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    /**
+     * Stream the result file of a completed job; 409 while it is still queued or running
+     */
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<?> downloadReport(
+            @PathVariable String jobId,
+            @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
+
+        logger.debug("API CALLED: GET /api/reports/{}/download", jobId);
+
+        try {
+            if (userNtid == null || userNtid.trim().isEmpty()) {
+                return error(HttpStatus.UNAUTHORIZED, "User NTID is required in header X-User-NTID");
+            }
+
+            Path file = reportJobService.getResultFile(jobId, userNtid);
+            String fileName = file.getFileName().toString();
+            MediaType contentType = fileName.endsWith(".csv")
+                ? new MediaType("text", "csv", java.nio.charset.StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_JSON;
+
+            return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(new FileSystemResource(file));
+
+        } catch (IllegalStateException e) {
+            logger.warn("ERROR: GET /api/reports/{}/download - {}", jobId, e.getMessage());
+            return error(HttpStatus.CONFLICT, e.getMessage());
+        } catch (Exception e) {
+            logger.error("GET /api/reports/{jobId}/download failed", e);
+            return error(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    private ResponseEntity<Map<String, String>> error(HttpStatus status, String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        logger.debug("Response: {}", error);
+        return ResponseEntity.status(status).body(error);
+    }
+}
@@ -2,25 +2,35 @@ package com.finsight.controller;
 
 import com.finsight.dto.AssignRequestDTO;
 import com.finsight.dto.CreateRequestDTO;
+import com.finsight.dto.EtaAlertDTO;
 import com.finsight.dto.UpdateRequestDTO;
 import com.finsight.dto.UpdateStatusDTO;
 import com.finsight.entity.Request;
 import com.finsight.entity.RequestPriority;
 import com.finsight.entity.RequestStatus;
 import com.finsight.entity.RequestType;
+import com.finsight.entity.RequestView;
 import com.finsight.service.RequestService;
 import com.finsight.service.RequestCommentService;
+import com.finsight.service.RequestSearchService;
+import com.finsight.service.RequestSyncService;
 import com.finsight.service.TimerService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +43,14 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class RequestController {
 
+    private static final Logger logger = LoggerFactory.getLogger(RequestController.class);
+
+    // Fields of a GET /api/requests list item, selectable with fields=
+    private static final Set<String> LIST_FIELDS = new LinkedHashSet<>(List.of(
+        "requestId", "title", "description", "requestType", "priority", "status", "createdBy", "assignedTo",
+        "assignedBy", "accountId", "createdAt", "assignedAt", "eta", "timeInOpenQueue", "timeInDeveloperQueue",
+        "timeUntilEta", "etaApproaching", "etaExceeded"));
+
     @Autowired
     private RequestService requestService;
 
@@ -42,6 +60,12 @@ public class RequestController {
     @Autowired
     private RequestCommentService commentService;
 
+    @Autowired
+    private RequestSyncService syncService;
+
+    @Autowired
+    private RequestSearchService searchService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -53,9 +77,8 @@ public class RequestController {
             @RequestBody String requestBody,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: POST /api/requests");
-        System.out.println("Request Header - X-User-NTID: " + userNtid);
+        logger.debug("API CALLED: POST /api/requests");
+        logger.debug("Request Header - X-User-NTID: {}", userNtid);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -65,11 +88,11 @@ public class RequestController {
             }
 
             CreateRequestDTO createDTO = objectMapper.readValue(requestBody, CreateRequestDTO.class);
-            System.out.println("Request Data:");
-            System.out.println("  - Title: " + createDTO.getTitle());
-            System.out.println("  - Type: " + createDTO.getRequestType());
-            System.out.println("  - Priority: " + createDTO.getPriority());
-            System.out.println("  - Account ID: " + createDTO.getAccountId());
+            logger.debug("Request Data:");
+            logger.debug("- Title: {}", createDTO.getTitle());
+            logger.debug("- Type: {}", createDTO.getRequestType());
+            logger.debug("- Priority: {}", createDTO.getPriority());
+            logger.debug("- Account ID: {}", createDTO.getAccountId());
             
             // Validate accountId is provided
             if (createDTO.getAccountId() == null) {
@@ -86,23 +109,22 @@ public class RequestController {
             response.put("title", request.getTitle());
             response.put("status", request.getStatus());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("POST /api/requests failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
 
     /**
      * Get all requests (filtered by user role)
+     * fields=requestId,title,... returns only those fields; without description the
+     * CLOB column is not read, and timer fields are only computed when requested
      */
     @GetMapping
     public ResponseEntity<?> getRequests(
@@ -110,11 +132,11 @@ public class RequestController {
             @RequestParam(required = false) RequestPriority priority,
             @RequestParam(required = false) RequestType requestType,
             @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) String fields,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/requests");
-        System.out.println("Request Header - X-User-NTID: " + userNtid);
+        logger.debug("API CALLED: GET /api/requests");
+        logger.debug("Request Header - X-User-NTID: {}", userNtid);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -123,50 +145,169 @@ public class RequestController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
             }
 
-            List<Request> requests = requestService.getRequests(userNtid, status, priority, requestType, accountId);
+            Set<String> selectedFields = parseFields(fields);
+            if (selectedFields != null && !LIST_FIELDS.containsAll(selectedFields)) {
+                Set<String> unknown = new LinkedHashSet<>(selectedFields);
+                unknown.removeAll(LIST_FIELDS);
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "Unknown fields " + unknown + "; available fields are " + LIST_FIELDS);
+                logger.warn("ERROR: GET /api/requests - unknown fields {}", unknown);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            }
+
+            List<? extends RequestView> requests = selectedFields == null || selectedFields.contains("description")
+                ? requestService.getRequests(userNtid, status, priority, requestType, accountId)
+                : requestService.getRequestSummaries(userNtid, status, priority, requestType, accountId);
             
             // Enrich with timer information
-            List<Map<String, Object>> responseList = requests.stream().map(request -> {
-                Map<String, Object> requestMap = new HashMap<>();
-                requestMap.put("requestId", request.getRequestId());
-                requestMap.put("title", request.getTitle());
-                requestMap.put("description", request.getDescription());
-                requestMap.put("requestType", request.getRequestType());
-                requestMap.put("priority", request.getPriority());
-                requestMap.put("status", request.getStatus());
-                requestMap.put("createdBy", request.getCreatedBy());
-                requestMap.put("assignedTo", request.getAssignedTo());
-                requestMap.put("assignedBy", request.getAssignedBy());
-                requestMap.put("accountId", request.getAccountId());
-                requestMap.put("createdAt", request.getCreatedAt());
-                requestMap.put("assignedAt", request.getAssignedAt());
-                requestMap.put("eta", request.getEta());
-                
-                // Add timer information
-                Duration timeInOpenQueue = timerService.getTimeInOpenQueue(request);
-                Duration timeInDeveloperQueue = timerService.getTimeInDeveloperQueue(request);
-                Duration timeUntilEta = timerService.getTimeUntilEta(request);
-                
-                requestMap.put("timeInOpenQueue", timerService.formatDuration(timeInOpenQueue));
-                requestMap.put("timeInDeveloperQueue", timerService.formatDuration(timeInDeveloperQueue));
-                requestMap.put("timeUntilEta", timeUntilEta != null ? timerService.formatDuration(timeUntilEta) : null);
-                requestMap.put("etaApproaching", timerService.isEtaApproaching(request, 30));
-                requestMap.put("etaExceeded", timerService.isEtaExceeded(request));
-                
-                return requestMap;
-            }).collect(Collectors.toList());
+            List<Map<String, Object>> responseList = requests.stream()
+                .map(request -> toListItem(request, selectedFields))
+                .collect(Collectors.toList());
             
-            System.out.println("Found " + responseList.size() + " requests");
-            System.out.println("=========================================\n");
+            logger.debug("Found {} requests", responseList.size());
             return ResponseEntity.ok(responseList);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/requests failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    /**
+     * Delta sync: tickets changed or removed since the token of the previous call
+     * Without since, returns the caller's full list (as GET /api/requests) and a first token;
+     * fields= selects list item fields as in GET /api/requests. An expired token answers 410
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
+
+        logger.debug("API CALLED: GET /api/requests/changes");
+
+        try {
+            if (userNtid == null || userNtid.trim().isEmpty()) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "User NTID is required in header X-User-NTID");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            }
+
+            Set<String> selectedFields = parseFields(fields);
+            if (selectedFields != null && !LIST_FIELDS.containsAll(selectedFields)) {
+                Set<String> unknown = new LinkedHashSet<>(selectedFields);
+                unknown.removeAll(LIST_FIELDS);
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "Unknown fields " + unknown + "; available fields are " + LIST_FIELDS);
+                logger.warn("ERROR: GET /api/requests/changes - unknown fields {}", unknown);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            }
+
+            RequestSyncService.Changes changes = syncService.getChanges(userNtid, since,
+                selectedFields != null && !selectedFields.contains("description"));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("token", changes.getToken());
+            response.put("full", changes.isFull());
+            response.put("changed", changes.getChanged().stream()
+                .map(request -> toListItem(request, selectedFields))
+                .collect(Collectors.toList()));
+            response.put("removed", changes.getRemoved());
+
+            logger.debug("Returning {} changed and {} removed requests", changes.getChanged().size(), changes.getRemoved().size());
+            return ResponseEntity.ok(response);
+
+        } catch (RequestSyncService.SyncTokenExpiredException e) {
+            logger.warn("ERROR: GET /api/requests/changes - {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.GONE).body(error);
+        } catch (IllegalArgumentException e) {
+            logger.warn("ERROR: GET /api/requests/changes - {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } catch (Exception e) {
+            logger.error("GET /api/requests/changes failed", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            logger.debug("Response: {}", error);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    /**
+     * Full-text search over ticket titles, descriptions and comments
+     * Results are limited to tickets the caller can see; the last word matches as a prefix
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchRequests(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
+        
+        logger.debug("API CALLED: GET /api/requests/search");
+        logger.debug("Query: {}", q);
+        
+        try {
+            if (userNtid == null || userNtid.trim().isEmpty()) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "User NTID is required in header X-User-NTID");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            }
+
+            List<com.finsight.dto.SearchHitDTO> hits = searchService.search(q, userNtid, limit);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("query", q);
+            response.put("results", hits);
+            response.put("count", hits.size());
+            response.put("indexReady", searchService.isReady());
+            
+            logger.debug("Found {} matching requests", hits.size());
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("GET /api/requests/search failed", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            logger.debug("Response: {}", error);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    /**
+     * Get comment count and latest comment timestamp for several requests
+     * Lets list views show activity indicators with one query instead of one call per ticket
+     */
+    @GetMapping("/comment-activity")
+    public ResponseEntity<?> getCommentActivity(
+            @RequestParam List<Long> requestIds,
+            @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
+        
+        logger.debug("API CALLED: GET /api/requests/comment-activity");
+        logger.debug("Request IDs: {}", requestIds.size());
+        
+        try {
+            if (userNtid == null || userNtid.trim().isEmpty()) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "User NTID is required in header X-User-NTID");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            }
+
+            Map<Long, com.finsight.dto.CommentActivityDTO> activity = commentService.getCommentActivity(requestIds);
+            
+            logger.debug("Returning comment activity for {} requests", activity.size());
+            return ResponseEntity.ok(activity.values());
+            
+        } catch (Exception e) {
+            logger.error("GET /api/requests/comment-activity failed", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -179,8 +320,7 @@ public class RequestController {
             @PathVariable Long id,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/requests/" + id);
+        logger.debug("API CALLED: GET /api/requests/{}", id);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -218,17 +358,14 @@ public class RequestController {
             response.put("etaApproaching", timerService.isEtaApproaching(request, 30));
             response.put("etaExceeded", timerService.isEtaExceeded(request));
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/requests/{id} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
         }
     }
@@ -242,8 +379,7 @@ public class RequestController {
             @RequestBody String requestBody,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: PUT /api/requests/" + id);
+        logger.debug("API CALLED: PUT /api/requests/{}", id);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -260,17 +396,14 @@ public class RequestController {
             response.put("requestId", request.getRequestId());
             response.put("title", request.getTitle());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("PUT /api/requests/{id} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -284,8 +417,7 @@ public class RequestController {
             @RequestBody String requestBody,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: POST /api/requests/" + id + "/assign");
+        logger.debug("API CALLED: POST /api/requests/{}/assign", id);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -295,9 +427,9 @@ public class RequestController {
             }
 
             AssignRequestDTO assignDTO = objectMapper.readValue(requestBody, AssignRequestDTO.class);
-            System.out.println("Assignment Data:");
-            System.out.println("  - Assigned to: " + assignDTO.getAssignedTo());
-            System.out.println("  - ETA: " + assignDTO.getEta());
+            logger.debug("Assignment Data:");
+            logger.debug("- Assigned to: {}", assignDTO.getAssignedTo());
+            logger.debug("- ETA: {}", assignDTO.getEta());
 
             Request request = requestService.assignRequest(id, assignDTO, userNtid);
             
@@ -307,17 +439,14 @@ public class RequestController {
             response.put("assignedTo", request.getAssignedTo());
             response.put("eta", request.getEta());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("POST /api/requests/{id}/assign failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -331,8 +460,7 @@ public class RequestController {
             @RequestBody String requestBody,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: PUT /api/requests/" + id + "/status");
+        logger.debug("API CALLED: PUT /api/requests/{}/status", id);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -342,9 +470,9 @@ public class RequestController {
             }
 
             UpdateStatusDTO statusDTO = objectMapper.readValue(requestBody, UpdateStatusDTO.class);
-            System.out.println("Status Update Data:");
-            System.out.println("  - New status: " + statusDTO.getStatus());
-            System.out.println("  - Comment: " + statusDTO.getComment());
+            logger.debug("Status Update Data:");
+            logger.debug("- New status: {}", statusDTO.getStatus());
+            logger.debug("- Comment: {}", statusDTO.getComment());
 
             Request request = requestService.updateStatus(id, statusDTO, userNtid);
             
@@ -353,17 +481,14 @@ public class RequestController {
             response.put("requestId", request.getRequestId());
             response.put("status", request.getStatus());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("PUT /api/requests/{id}/status failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -376,8 +501,7 @@ public class RequestController {
             @PathVariable Long id,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: DELETE /api/requests/" + id);
+        logger.debug("API CALLED: DELETE /api/requests/{}", id);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -391,17 +515,14 @@ public class RequestController {
             Map<String, String> response = new HashMap<>();
             response.put("message", "Request deleted successfully");
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("DELETE /api/requests/{id} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -413,8 +534,7 @@ public class RequestController {
     public ResponseEntity<?> getDashboardStats(
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/requests/stats");
+        logger.debug("API CALLED: GET /api/requests/stats");
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -425,17 +545,14 @@ public class RequestController {
 
             Map<String, Object> stats = requestService.getDashboardStats(userNtid);
             
-            System.out.println("Response: " + stats);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", stats);
             return ResponseEntity.ok(stats);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/requests/stats failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -448,9 +565,8 @@ public class RequestController {
             @RequestParam(defaultValue = "30") int thresholdMinutes,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/requests/eta-alerts");
-        System.out.println("Threshold: " + thresholdMinutes + " minutes");
+        logger.debug("API CALLED: GET /api/requests/eta-alerts");
+        logger.debug("Threshold: {} minutes", thresholdMinutes);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -459,7 +575,7 @@ public class RequestController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
             }
 
-            List<Request> requests = requestService.getRequestsApproachingEta(thresholdMinutes);
+            List<EtaAlertDTO> requests = requestService.getRequestsApproachingEta(thresholdMinutes);
             
             List<Map<String, Object>> responseList = requests.stream().map(request -> {
                 Map<String, Object> requestMap = new HashMap<>();
@@ -467,22 +583,19 @@ public class RequestController {
                 requestMap.put("title", request.getTitle());
                 requestMap.put("assignedTo", request.getAssignedTo());
                 requestMap.put("eta", request.getEta());
-                requestMap.put("timeUntilEta", timerService.formatDuration(timerService.getTimeUntilEta(request)));
-                requestMap.put("etaExceeded", timerService.isEtaExceeded(request));
+                requestMap.put("timeUntilEta", timerService.formatDuration(timerService.getTimeUntilEta(request.getEta())));
+                requestMap.put("etaExceeded", timerService.isEtaExceeded(request.getEta()));
                 return requestMap;
             }).collect(Collectors.toList());
             
-            System.out.println("Found " + responseList.size() + " requests approaching ETA");
-            System.out.println("=========================================\n");
+            logger.debug("Found {} requests approaching ETA", responseList.size());
             return ResponseEntity.ok(responseList);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/requests/eta-alerts failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -495,9 +608,8 @@ public class RequestController {
     public ResponseEntity<?> getAccountStatistics(
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/requests/account-statistics");
-        System.out.println("Request Header - X-User-NTID: " + userNtid);
+        logger.debug("API CALLED: GET /api/requests/account-statistics");
+        logger.debug("Request Header - X-User-NTID: {}", userNtid);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -508,17 +620,14 @@ public class RequestController {
 
             List<com.finsight.dto.AccountStatsDTO> stats = requestService.getAccountStatistics();
             
-            System.out.println("Returning statistics for " + stats.size() + " accounts");
-            System.out.println("=========================================\n");
+            logger.debug("Returning statistics for {} accounts", stats.size());
             return ResponseEntity.ok(stats);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/requests/account-statistics failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -532,9 +641,8 @@ public class RequestController {
             @PathVariable Long accountId,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/requests/user-statistics-by-account/" + accountId);
-        System.out.println("Request Header - X-User-NTID: " + userNtid);
+        logger.debug("API CALLED: GET /api/requests/user-statistics-by-account/{}", accountId);
+        logger.debug("Request Header - X-User-NTID: {}", userNtid);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -545,17 +653,14 @@ public class RequestController {
 
             List<com.finsight.dto.UserTicketStatsDTO> stats = requestService.getUserStatisticsByAccount(accountId);
             
-            System.out.println("Returning statistics for " + stats.size() + " users in account " + accountId);
-            System.out.println("=========================================\n");
+            logger.debug("Returning statistics for {} users in account {}", stats.size(), accountId);
             return ResponseEntity.ok(stats);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/requests/user-statistics-by-account/{accountId} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -568,9 +673,8 @@ public class RequestController {
     public ResponseEntity<?> getUserTicketStatistics(
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/requests/user-statistics");
-        System.out.println("Request Header - X-User-NTID: " + userNtid);
+        logger.debug("API CALLED: GET /api/requests/user-statistics");
+        logger.debug("Request Header - X-User-NTID: {}", userNtid);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -581,17 +685,14 @@ public class RequestController {
 
             List<com.finsight.dto.UserTicketStatsDTO> stats = requestService.getUserTicketStatistics(userNtid);
             
-            System.out.println("Returning statistics for " + stats.size() + " users");
-            System.out.println("=========================================\n");
+            logger.debug("Returning statistics for {} users", stats.size());
             return ResponseEntity.ok(stats);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/requests/user-statistics failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -605,8 +706,7 @@ public class RequestController {
             @RequestBody String requestBody,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: PUT /api/requests/" + id + "/eta");
+        logger.debug("API CALLED: PUT /api/requests/{}/eta", id);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -616,9 +716,9 @@ public class RequestController {
             }
 
             com.finsight.dto.UpdateEtaDTO updateEtaDTO = objectMapper.readValue(requestBody, com.finsight.dto.UpdateEtaDTO.class);
-            System.out.println("ETA Update Data:");
-            System.out.println("  - New ETA: " + updateEtaDTO.getNewEta());
-            System.out.println("  - Reason: " + updateEtaDTO.getChangeReason());
+            logger.debug("ETA Update Data:");
+            logger.debug("- New ETA: {}", updateEtaDTO.getNewEta());
+            logger.debug("- Reason: {}", updateEtaDTO.getChangeReason());
 
             Request request = requestService.updateEta(id, updateEtaDTO, userNtid);
             
@@ -627,31 +727,30 @@ public class RequestController {
             response.put("requestId", request.getRequestId());
             response.put("eta", request.getEta());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("PUT /api/requests/{id}/eta failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
 
     /**
      * Get all comments for a request
+     * When page is given, returns one page of comments (size defaults to 20) with paging metadata
      */
     @GetMapping("/{id}/comments")
     public ResponseEntity<?> getComments(
             @PathVariable Long id,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "20") int size,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/requests/" + id + "/comments");
+        logger.debug("API CALLED: GET /api/requests/{}/comments", id);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -660,19 +759,30 @@ public class RequestController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
             }
 
+            if (page != null) {
+                Page<com.finsight.dto.CommentDTO> commentPage = commentService.getCommentsByRequestId(id, page, size);
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put("comments", commentPage.getContent());
+                response.put("page", commentPage.getNumber());
+                response.put("size", commentPage.getSize());
+                response.put("totalElements", commentPage.getTotalElements());
+                response.put("totalPages", commentPage.getTotalPages());
+                
+                logger.debug("Returning page {} with {} comments", page, commentPage.getNumberOfElements());
+                return ResponseEntity.ok(response);
+            }
+
             List<com.finsight.dto.CommentDTO> comments = commentService.getCommentsByRequestId(id);
             
-            System.out.println("Returning " + comments.size() + " comments");
-            System.out.println("=========================================\n");
+            logger.debug("Returning {} comments", comments.size());
             return ResponseEntity.ok(comments);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/requests/{id}/comments failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -686,8 +796,7 @@ public class RequestController {
             @RequestBody String requestBody,
             @RequestHeader(value = "X-User-NTID", required = false) String userNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: POST /api/requests/" + id + "/comments");
+        logger.debug("API CALLED: POST /api/requests/{}/comments", id);
         
         try {
             if (userNtid == null || userNtid.trim().isEmpty()) {
@@ -697,9 +806,9 @@ public class RequestController {
             }
 
             com.finsight.dto.CreateCommentDTO createDTO = objectMapper.readValue(requestBody, com.finsight.dto.CreateCommentDTO.class);
-            System.out.println("Comment Data:");
-            System.out.println("  - Comment: " + createDTO.getCommentText());
-            System.out.println("  - Is ETA Change: " + createDTO.getIsEtaChange());
+            logger.debug("Comment Data:");
+            logger.debug("- Comment: {}", createDTO.getCommentText());
+            logger.debug("- Is ETA Change: {}", createDTO.getIsEtaChange());
 
             com.finsight.dto.CommentDTO comment = commentService.addComment(id, createDTO, userNtid);
             
@@ -707,18 +816,70 @@ public class RequestController {
             response.put("message", "Comment added successfully");
             response.put("comment", comment);
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("POST /api/requests/{id}/comments failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
+
+    /**
+     * Comma-separated field names, or null for all fields
+     */
+    private Set<String> parseFields(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.trim().isEmpty()) {
+                selected.add(field.trim());
+            }
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+
+    /**
+     * One GET /api/requests list item with the selected fields (all when null)
+     */
+    private Map<String, Object> toListItem(RequestView request, Set<String> fields) {
+        Map<String, Object> requestMap = new HashMap<>();
+        putIfSelected(requestMap, fields, "requestId", request::getRequestId);
+        putIfSelected(requestMap, fields, "title", request::getTitle);
+        putIfSelected(requestMap, fields, "description", () -> ((Request) request).getDescription());
+        putIfSelected(requestMap, fields, "requestType", request::getRequestType);
+        putIfSelected(requestMap, fields, "priority", request::getPriority);
+        putIfSelected(requestMap, fields, "status", request::getStatus);
+        putIfSelected(requestMap, fields, "createdBy", request::getCreatedBy);
+        putIfSelected(requestMap, fields, "assignedTo", request::getAssignedTo);
+        putIfSelected(requestMap, fields, "assignedBy", request::getAssignedBy);
+        putIfSelected(requestMap, fields, "accountId", request::getAccountId);
+        putIfSelected(requestMap, fields, "createdAt", request::getCreatedAt);
+        putIfSelected(requestMap, fields, "assignedAt", request::getAssignedAt);
+        putIfSelected(requestMap, fields, "eta", request::getEta);
+
+        // Add timer information
+        putIfSelected(requestMap, fields, "timeInOpenQueue",
+            () -> timerService.formatDuration(timerService.getTimeInOpenQueue(request)));
+        putIfSelected(requestMap, fields, "timeInDeveloperQueue",
+            () -> timerService.formatDuration(timerService.getTimeInDeveloperQueue(request)));
+        putIfSelected(requestMap, fields, "timeUntilEta", () -> {
+            Duration timeUntilEta = timerService.getTimeUntilEta(request);
+            return timeUntilEta != null ? timerService.formatDuration(timeUntilEta) : null;
+        });
+        putIfSelected(requestMap, fields, "etaApproaching", () -> timerService.isEtaApproaching(request, 30));
+        putIfSelected(requestMap, fields, "etaExceeded", () -> timerService.isEtaExceeded(request));
+        return requestMap;
+    }
+
+    private static void putIfSelected(Map<String, Object> map, Set<String> fields, String name, Supplier<Object> value) {
+        if (fields == null || fields.contains(name)) {
+            map.put(name, value.get());
+        }
+    }
 }
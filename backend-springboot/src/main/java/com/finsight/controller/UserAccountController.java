@@ -4,6 +4,8 @@ import com.finsight.dto.AssignAccountDTO;
 import com.finsight.entity.UserAccount;
 import com.finsight.service.UserAccountService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +25,8 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class UserAccountController {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserAccountController.class);
+
     @Autowired
     private UserAccountService userAccountService;
 
@@ -37,9 +41,8 @@ public class UserAccountController {
             @RequestBody String requestBody,
             @RequestHeader(value = "X-User-NTID", required = false) String adminNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: POST /api/user-accounts");
-        System.out.println("Request Header - X-User-NTID: " + adminNtid);
+        logger.debug("API CALLED: POST /api/user-accounts");
+        logger.debug("Request Header - X-User-NTID: {}", adminNtid);
         
         try {
             if (adminNtid == null || adminNtid.trim().isEmpty()) {
@@ -49,9 +52,9 @@ public class UserAccountController {
             }
 
             AssignAccountDTO assignDTO = objectMapper.readValue(requestBody, AssignAccountDTO.class);
-            System.out.println("Assignment Data:");
-            System.out.println("  - NTID: " + assignDTO.getNtid());
-            System.out.println("  - Account ID: " + assignDTO.getAccountId());
+            logger.debug("Assignment Data:");
+            logger.debug("- NTID: {}", assignDTO.getNtid());
+            logger.debug("- Account ID: {}", assignDTO.getAccountId());
 
             UserAccount userAccount = userAccountService.assignAccountToUser(assignDTO, adminNtid);
             
@@ -61,17 +64,14 @@ public class UserAccountController {
             response.put("ntid", userAccount.getNtid());
             response.put("accountId", userAccount.getAccountId());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("POST /api/user-accounts failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -81,8 +81,7 @@ public class UserAccountController {
      */
     @GetMapping("/user/{ntid}")
     public ResponseEntity<?> getAccountsByUser(@PathVariable String ntid) {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/user-accounts/user/" + ntid);
+        logger.debug("API CALLED: GET /api/user-accounts/user/{}", ntid);
         
         try {
             List<UserAccount> userAccounts = userAccountService.getAccountsByUser(ntid);
@@ -98,17 +97,14 @@ public class UserAccountController {
                 })
                 .toList();
             
-            System.out.println("Found " + responseList.size() + " account assignments");
-            System.out.println("=========================================\n");
+            logger.debug("Found {} account assignments", responseList.size());
             return ResponseEntity.ok(responseList);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/user-accounts/user/{ntid} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -118,8 +114,7 @@ public class UserAccountController {
      */
     @GetMapping("/user/{ntid}/account-ids")
     public ResponseEntity<?> getAccountIdsByUser(@PathVariable String ntid) {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/user-accounts/user/" + ntid + "/account-ids");
+        logger.debug("API CALLED: GET /api/user-accounts/user/{}/account-ids", ntid);
         
         try {
             List<Long> accountIds = userAccountService.getAccountIdsByUser(ntid);
@@ -129,17 +124,14 @@ public class UserAccountController {
             response.put("accountIds", accountIds);
             response.put("count", accountIds.size());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/user-accounts/user/{ntid}/account-ids failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -149,8 +141,7 @@ public class UserAccountController {
      */
     @GetMapping("/account/{accountId}")
     public ResponseEntity<?> getUsersByAccount(@PathVariable Long accountId) {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/user-accounts/account/" + accountId);
+        logger.debug("API CALLED: GET /api/user-accounts/account/{}", accountId);
         
         try {
             List<UserAccount> userAccounts = userAccountService.getUsersByAccount(accountId);
@@ -166,17 +157,14 @@ public class UserAccountController {
                 })
                 .toList();
             
-            System.out.println("Found " + responseList.size() + " users handling this account");
-            System.out.println("=========================================\n");
+            logger.debug("Found {} users handling this account", responseList.size());
             return ResponseEntity.ok(responseList);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/user-accounts/account/{accountId} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -190,8 +178,7 @@ public class UserAccountController {
             @PathVariable Long accountId,
             @RequestHeader(value = "X-User-NTID", required = false) String adminNtid) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: DELETE /api/user-accounts/user/" + ntid + "/account/" + accountId);
+        logger.debug("API CALLED: DELETE /api/user-accounts/user/{}/account/{}", ntid, accountId);
         
         try {
             if (adminNtid == null || adminNtid.trim().isEmpty()) {
@@ -205,17 +192,14 @@ public class UserAccountController {
             Map<String, String> response = new HashMap<>();
             response.put("message", "Account assignment removed successfully");
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("DELETE /api/user-accounts/user/{ntid}/account/{accountId} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -1,14 +1,20 @@
 package com.finsight.controller;
 
+import com.finsight.dto.BulkImportResultDTO;
 import com.finsight.dto.UserRegistrationDTO;
 import com.finsight.entity.User;
 import com.finsight.entity.UserRole;
 import com.finsight.repository.UserAccountRepository;
+import com.finsight.service.UserImportService;
 import com.finsight.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,12 +33,17 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class UserController {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserController.class);
+
     @Autowired
     private UserService userService;
 
     @Autowired
     private UserAccountRepository userAccountRepository;
 
+    @Autowired
+    private UserImportService userImportService;
+
     /**
      * Get user by NTID
      */
@@ -41,9 +52,8 @@ public class UserController {
             @PathVariable String ntid,
             @RequestHeader(value = "X-User-NTID", required = false) String requestedBy) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/users/" + ntid);
-        System.out.println("Request Header - X-User-NTID: " + requestedBy);
+        logger.debug("API CALLED: GET /api/users/{}", ntid);
+        logger.debug("Request Header - X-User-NTID: {}", requestedBy);
         
         try {
             if (requestedBy == null || requestedBy.trim().isEmpty()) {
@@ -62,17 +72,14 @@ public class UserController {
             response.put("accountId", user.getAccountId());
             response.put("active", user.getActive());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/users/{ntid} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
         }
     }
@@ -85,9 +92,8 @@ public class UserController {
             @PathVariable String ntid,
             @RequestHeader(value = "X-User-NTID", required = false) String requestedBy) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: DELETE /api/users/" + ntid);
-        System.out.println("Request Header - X-User-NTID: " + requestedBy);
+        logger.debug("API CALLED: DELETE /api/users/{}", ntid);
+        logger.debug("Request Header - X-User-NTID: {}", requestedBy);
         
         try {
             if (requestedBy == null || requestedBy.trim().isEmpty()) {
@@ -101,17 +107,14 @@ public class UserController {
             Map<String, String> response = new HashMap<>();
             response.put("message", "User deleted successfully");
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("DELETE /api/users/{ntid} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -125,10 +128,9 @@ public class UserController {
             @RequestParam UserRole role,
             @RequestHeader(value = "X-User-NTID", required = false) String requestedBy) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: PUT /api/users/" + ntid + "/role");
-        System.out.println("Request Header - X-User-NTID: " + requestedBy);
-        System.out.println("New Role: " + role);
+        logger.debug("API CALLED: PUT /api/users/{}/role", ntid);
+        logger.debug("Request Header - X-User-NTID: {}", requestedBy);
+        logger.debug("New Role: {}", role);
         
         try {
             if (requestedBy == null || requestedBy.trim().isEmpty()) {
@@ -144,17 +146,14 @@ public class UserController {
             response.put("ntid", user.getNtid());
             response.put("role", user.getRole());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("PUT /api/users/{ntid}/role failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -172,10 +171,9 @@ public class UserController {
             @RequestParam(required = false) String createdByNtid,
             @RequestHeader(value = "X-User-NTID", required = false) String requestedBy) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: GET /api/users");
-        System.out.println("Request Header - X-User-NTID: " + requestedBy);
-        System.out.println("Filter by role: " + role);
+        logger.debug("API CALLED: GET /api/users");
+        logger.debug("Request Header - X-User-NTID: {}", requestedBy);
+        logger.debug("Filter by role: {}", role);
         
         try {
             if (requestedBy == null || requestedBy.trim().isEmpty()) {
@@ -201,7 +199,7 @@ public class UserController {
             
             // Filter by accountId if provided (for ticket assignment)
             if (accountId != null) {
-                System.out.println("Filtering users by accountId: " + accountId);
+                logger.debug("Filtering users by accountId: {}", accountId);
                 Set<String> eligibleNtids = new HashSet<>();
                 
                 // 1. Add users with direct accountId match
@@ -221,7 +219,7 @@ public class UserController {
                     eligibleNtids.add(createdByNtid.trim());
                 }
                 
-                System.out.println("Eligible users for account " + accountId + ": " + eligibleNtids.size());
+                logger.debug("Eligible users for account {}: {}", accountId, eligibleNtids.size());
                 
                 // Filter users to only those eligible
                 filteredUsers = allUsers.stream()
@@ -249,17 +247,14 @@ public class UserController {
                 })
                 .collect(Collectors.toList());
             
-            System.out.println("Found " + responseList.size() + " users");
-            System.out.println("=========================================\n");
+            logger.debug("Found {} users", responseList.size());
             return ResponseEntity.ok(responseList);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("GET /api/users failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
@@ -272,15 +267,14 @@ public class UserController {
             @RequestBody UserRegistrationDTO registrationDTO,
             @RequestHeader(value = "X-User-NTID", required = false) String requestedBy) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: POST /api/users/admin");
-        System.out.println("Request Header - X-User-NTID: " + requestedBy);
+        logger.debug("API CALLED: POST /api/users/admin");
+        logger.debug("Request Header - X-User-NTID: {}", requestedBy);
         
-        System.out.println("Admin Registration Data:");
-        System.out.println("  - NTID: " + registrationDTO.getNtid());
-        System.out.println("  - Email: " + registrationDTO.getEmail());
-        System.out.println("  - Account: " + registrationDTO.getAccount());
-        System.out.println("  - Password: ***");
+        logger.debug("Admin Registration Data:");
+        logger.debug("- NTID: {}", registrationDTO.getNtid());
+        logger.debug("- Email: {}", registrationDTO.getEmail());
+        logger.debug("- Account: {}", registrationDTO.getAccount());
+        logger.debug("- Password: ***");
         
         try {
             if (requestedBy == null || requestedBy.trim().isEmpty()) {
@@ -297,17 +291,54 @@ public class UserController {
             response.put("email", admin.getEmail());
             response.put("role", admin.getRole());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("POST /api/users/admin failed", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            logger.debug("Response: {}", error);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * Bulk import users from a CSV file (ADMIN only)
+     * Multipart field "file" with header: ntid,email,account,password[,role]
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importUsers(
+            @RequestParam("file") MultipartFile file,
+            @RequestHeader(value = "X-User-NTID", required = false) String requestedBy) {
+        
+        logger.debug("API CALLED: POST /api/users/import");
+        logger.debug("Request Header - X-User-NTID: {}", requestedBy);
+        logger.debug("File: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+        
+        try {
+            if (requestedBy == null || requestedBy.trim().isEmpty()) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "User NTID is required in header X-User-NTID");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            }
+
+            if (file.isEmpty()) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "CSV file is required");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            }
+
+            BulkImportResultDTO result = userImportService.importUsers(file.getInputStream(), requestedBy);
+            
+            logger.debug("Imported {} users, skipped {} rows", result.getImportedUsers(), result.getSkippedRows());
+            return ResponseEntity.ok(result);
+            
+        } catch (Exception e) {
+            logger.error("POST /api/users/import failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -323,15 +354,14 @@ public class UserController {
             @RequestBody com.finsight.dto.UpdateUserDTO updateDTO,
             @RequestHeader(value = "X-User-NTID", required = false) String requestedBy) {
         
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: PUT /api/users/" + ntid);
-        System.out.println("Request Header - X-User-NTID: " + requestedBy);
-        System.out.println("Update Data:");
-        System.out.println("  - NTID: " + updateDTO.getNtid());
-        System.out.println("  - Email: " + updateDTO.getEmail());
-        System.out.println("  - Account: " + updateDTO.getAccount());
-        System.out.println("  - Role: " + updateDTO.getRole());
-        System.out.println("  - Active: " + updateDTO.getActive());
+        logger.debug("API CALLED: PUT /api/users/{}", ntid);
+        logger.debug("Request Header - X-User-NTID: {}", requestedBy);
+        logger.debug("Update Data:");
+        logger.debug("- NTID: {}", updateDTO.getNtid());
+        logger.debug("- Email: {}", updateDTO.getEmail());
+        logger.debug("- Account: {}", updateDTO.getAccount());
+        logger.debug("- Role: {}", updateDTO.getRole());
+        logger.debug("- Active: {}", updateDTO.getActive());
         
         try {
             if (requestedBy == null || requestedBy.trim().isEmpty()) {
@@ -351,17 +381,14 @@ public class UserController {
             response.put("accountId", updatedUser.getAccountId());
             response.put("active", updatedUser.getActive());
             
-            System.out.println("Response: " + response);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", response);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("PUT /api/users/{ntid} failed", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            System.out.println("Response: " + error);
-            System.out.println("=========================================\n");
+            logger.debug("Response: {}", error);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
     }
@@ -0,0 +1,105 @@
+package com.finsight.dto;
+
+import com.finsight.entity.RequestPriority;
+import com.finsight.entity.RequestStatus;
+import com.finsight.entity.RequestType;
+import com.finsight.entity.RequestView;
+
+import java.time.LocalDateTime;
+
+/**
+ * Board Card DTO
+ * One ticket on the live kanban board (/ws/board); the column is the status
+ *
+ * @author Mukund Kute
+ */
+public class BoardCardDTO {
+    private Long requestId;
+    private String title;
+    private RequestType requestType;
+    private RequestPriority priority;
+    private RequestStatus status;
+    private String assignedTo;
+    private LocalDateTime eta;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public BoardCardDTO() {
+    }
+
+    public BoardCardDTO(RequestView request) {
+        this.requestId = request.getRequestId();
+        this.title = request.getTitle();
+        this.requestType = request.getRequestType();
+        this.priority = request.getPriority();
+        this.status = request.getStatus();
+        this.assignedTo = request.getAssignedTo();
+        this.eta = request.getEta();
+        this.updatedAt = request.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(Long requestId) {
+        this.requestId = requestId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public RequestType getRequestType() {
+        return requestType;
+    }
+
+    public void setRequestType(RequestType requestType) {
+        this.requestType = requestType;
+    }
+
+    public RequestPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(RequestPriority priority) {
+        this.priority = priority;
+    }
+
+    public RequestStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RequestStatus status) {
+        this.status = status;
+    }
+
+    public String getAssignedTo() {
+        return assignedTo;
+    }
+
+    public void setAssignedTo(String assignedTo) {
+        this.assignedTo = assignedTo;
+    }
+
+    public LocalDateTime getEta() {
+        return eta;
+    }
+
+    public void setEta(LocalDateTime eta) {
+        this.eta = eta;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
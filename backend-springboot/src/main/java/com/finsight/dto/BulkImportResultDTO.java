@@ -0,0 +1,67 @@
+package com.finsight.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk User Import Result DTO
+ *
+ * @author Mukund Kute
+ */
+public class BulkImportResultDTO {
+    private Long totalRows;
+    private Long importedUsers;
+    private Long skippedRows;
+    private Long durationMs;
+    private List<String> errors;
+
+    // Constructors
+    public BulkImportResultDTO() {
+        this.totalRows = 0L;
+        this.importedUsers = 0L;
+        this.skippedRows = 0L;
+        this.durationMs = 0L;
+        this.errors = new ArrayList<>();
+    }
+
+    // Getters and Setters
+    public Long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(Long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public Long getImportedUsers() {
+        return importedUsers;
+    }
+
+    public void setImportedUsers(Long importedUsers) {
+        this.importedUsers = importedUsers;
+    }
+
+    public Long getSkippedRows() {
+        return skippedRows;
+    }
+
+    public void setSkippedRows(Long skippedRows) {
+        this.skippedRows = skippedRows;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
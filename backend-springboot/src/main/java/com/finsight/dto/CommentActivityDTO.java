@@ -0,0 +1,50 @@
+package com.finsight.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Comment Activity DTO
+ * Comment count and latest comment timestamp for a request (list view indicators)
+ * 
+ * @author Mukund Kute
+ */
+public class CommentActivityDTO {
+    private Long requestId;
+    private Long commentCount;
+    private LocalDateTime lastCommentedAt;
+
+    // Constructors
+    public CommentActivityDTO() {
+    }
+
+    public CommentActivityDTO(Long requestId, Long commentCount, LocalDateTime lastCommentedAt) {
+        this.requestId = requestId;
+        this.commentCount = commentCount;
+        this.lastCommentedAt = lastCommentedAt;
+    }
+
+    // Getters and Setters
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(Long requestId) {
+        this.requestId = requestId;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public LocalDateTime getLastCommentedAt() {
+        return lastCommentedAt;
+    }
+
+    public void setLastCommentedAt(LocalDateTime lastCommentedAt) {
+        this.lastCommentedAt = lastCommentedAt;
+    }
+}
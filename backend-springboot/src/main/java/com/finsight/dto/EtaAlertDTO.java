@@ -0,0 +1,43 @@
+package com.finsight.dto;
+
+import com.finsight.entity.RequestView;
+
+import java.time.LocalDateTime;
+
+/**
+ * ETA Alert DTO
+ * A ticket whose ETA is near (GET /api/requests/eta-alerts). Read-only: one list is shared by
+ * every caller of a coalesced call
+ *
+ * @author Mukund Kute
+ */
+public class EtaAlertDTO {
+    private final Long requestId;
+    private final String title;
+    private final String assignedTo;
+    private final LocalDateTime eta;
+
+    public EtaAlertDTO(RequestView request) {
+        this.requestId = request.getRequestId();
+        this.title = request.getTitle();
+        this.assignedTo = request.getAssignedTo();
+        this.eta = request.getEta();
+    }
+
+    // Getters
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAssignedTo() {
+        return assignedTo;
+    }
+
+    public LocalDateTime getEta() {
+        return eta;
+    }
+}
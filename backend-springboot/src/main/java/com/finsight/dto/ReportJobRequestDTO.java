@@ -0,0 +1,51 @@
+package com.finsight.dto;
+
+import java.util.List;
+
+/**
+ * Report Job Request DTO
+ * accountId limits USER_STATISTICS to one account; accountIds limits TICKET_EXPORT
+ * (default: every account the caller may export)
+ *
+ * @author Mukund Kute
+ */
+public class ReportJobRequestDTO {
+    private ReportType type;
+    private Long accountId;
+    private List<Long> accountIds;
+
+    // Constructors
+    public ReportJobRequestDTO() {
+    }
+
+    public ReportJobRequestDTO(ReportType type, Long accountId, List<Long> accountIds) {
+        this.type = type;
+        this.accountId = accountId;
+        this.accountIds = accountIds;
+    }
+
+    // Getters and Setters
+    public ReportType getType() {
+        return type;
+    }
+
+    public void setType(ReportType type) {
+        this.type = type;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public List<Long> getAccountIds() {
+        return accountIds;
+    }
+
+    public void setAccountIds(List<Long> accountIds) {
+        this.accountIds = accountIds;
+    }
+}
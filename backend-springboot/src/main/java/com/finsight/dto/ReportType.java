@@ -0,0 +1,13 @@
+package com.finsight.dto;
+
+/**
+ * Report Type
+ * Reports that run as background jobs (POST /api/reports)
+ *
+ * @author Mukund Kute
+ */
+public enum ReportType {
+    ACCOUNT_STATISTICS,   // Tickets per account (JSON)
+    USER_STATISTICS,      // Tickets per user, optionally for one account (JSON)
+    TICKET_EXPORT         // Active tickets of the caller's accounts, without descriptions (CSV)
+}
@@ -0,0 +1,92 @@
+package com.finsight.dto;
+
+import com.finsight.entity.RequestPriority;
+import com.finsight.entity.RequestStatus;
+
+/**
+ * Search Hit DTO
+ * One ranked ticket returned by the full-text search
+ *
+ * @author Mukund Kute
+ */
+public class SearchHitDTO {
+    private Long requestId;
+    private String title;
+    private RequestStatus status;
+    private RequestPriority priority;
+    private Long accountId;
+    private String assignedTo;
+    private Double score;
+
+    // Constructors
+    public SearchHitDTO() {
+    }
+
+    public SearchHitDTO(Long requestId, String title, RequestStatus status, RequestPriority priority,
+                        Long accountId, String assignedTo, Double score) {
+        this.requestId = requestId;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.accountId = accountId;
+        this.assignedTo = assignedTo;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(Long requestId) {
+        this.requestId = requestId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public RequestStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RequestStatus status) {
+        this.status = status;
+    }
+
+    public RequestPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(RequestPriority priority) {
+        this.priority = priority;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public String getAssignedTo() {
+        return assignedTo;
+    }
+
+    public void setAssignedTo(String assignedTo) {
+        this.assignedTo = assignedTo;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+}
@@ -1,14 +1,19 @@
 package com.finsight.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
  * Account Entity
+ * Held in the second-level cache (see ehcache.xml)
  * 
  * @author Mukund Kute
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "FLOWAI_ACCOUNTS")
 public class Account {
 
@@ -0,0 +1,136 @@
+package com.finsight.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Archived Request Entity
+ * Read-only mapping of FLOWAI_REQUESTS_ARCHIVE: closed tickets moved out of FLOWAI_REQUESTS
+ * by TicketArchiveService, read when a ticket is no longer in the hot table
+ *
+ * @author Mukund Kute
+ */
+@Entity
+@Immutable
+@Table(name = "FLOWAI_REQUESTS_ARCHIVE")
+public class ArchivedRequest implements RequestView {
+
+    @Id
+    @Column(name = "REQUEST_ID")
+    private Long requestId;
+
+    @Column(name = "TITLE", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "DESCRIPTION", columnDefinition = "CLOB")
+    private String description;
+
+    @Column(name = "REQUEST_TYPE", nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private RequestType requestType;
+
+    @Column(name = "PRIORITY", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private RequestPriority priority;
+
+    @Column(name = "STATUS", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private RequestStatus status;
+
+    @Column(name = "CREATED_BY", nullable = false, length = 50)
+    private String createdBy;
+
+    @Column(name = "ASSIGNED_TO", length = 50)
+    private String assignedTo;
+
+    @Column(name = "ACCOUNT_ID")
+    private Long accountId;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "ASSIGNED_AT")
+    private LocalDateTime assignedAt;
+
+    @Column(name = "ASSIGNED_BY", length = 50)
+    private String assignedBy;
+
+    @Column(name = "ETA")
+    private LocalDateTime eta;
+
+    @Column(name = "ACTIVE", nullable = false)
+    private Boolean active;
+
+    @Column(name = "ARCHIVED_AT", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Getters
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public RequestType getRequestType() {
+        return requestType;
+    }
+
+    public RequestPriority getPriority() {
+        return priority;
+    }
+
+    public RequestStatus getStatus() {
+        return status;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public String getAssignedTo() {
+        return assignedTo;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getAssignedAt() {
+        return assignedAt;
+    }
+
+    public String getAssignedBy() {
+        return assignedBy;
+    }
+
+    public LocalDateTime getEta() {
+        return eta;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,101 @@
+package com.finsight.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Archived Request Comment Entity
+ * Read-only mapping of FLOWAI_REQUEST_COMMENTS_ARCHIVE: comments of archived tickets.
+ * Text is split between COMMENT_TEXT_SHORT and COMMENT_TEXT as in RequestComment
+ *
+ * @author Mukund Kute
+ */
+@Entity
+@Immutable
+@Table(name = "FLOWAI_REQUEST_COMMENTS_ARCHIVE")
+public class ArchivedRequestComment {
+
+    @Id
+    @Column(name = "COMMENT_ID")
+    private Long commentId;
+
+    @Column(name = "REQUEST_ID", nullable = false)
+    private Long requestId;
+
+    @Column(name = "COMMENT_TEXT_SHORT", length = RequestComment.MAX_INLINE_TEXT_BYTES)
+    private String commentTextShort;
+
+    @Column(name = "COMMENT_TEXT", columnDefinition = "CLOB")
+    private String commentTextLong;
+
+    @Column(name = "COMMENTED_BY", nullable = false, length = 50)
+    private String commentedBy;
+
+    @Column(name = "COMMENTED_AT", nullable = false)
+    private LocalDateTime commentedAt;
+
+    @Column(name = "IS_ETA_CHANGE", nullable = false)
+    private Boolean isEtaChange;
+
+    @Column(name = "OLD_ETA")
+    private LocalDateTime oldEta;
+
+    @Column(name = "NEW_ETA")
+    private LocalDateTime newEta;
+
+    @Column(name = "CHANGE_REASON", length = 500)
+    private String changeReason;
+
+    @Column(name = "ACTIVE", nullable = false)
+    private Boolean active;
+
+    @Column(name = "ARCHIVED_AT", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Getters
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public String getCommentText() {
+        return commentTextShort != null ? commentTextShort : commentTextLong;
+    }
+
+    public String getCommentedBy() {
+        return commentedBy;
+    }
+
+    public LocalDateTime getCommentedAt() {
+        return commentedAt;
+    }
+
+    public Boolean getIsEtaChange() {
+        return isEtaChange;
+    }
+
+    public LocalDateTime getOldEta() {
+        return oldEta;
+    }
+
+    public LocalDateTime getNewEta() {
+        return newEta;
+    }
+
+    public String getChangeReason() {
+        return changeReason;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
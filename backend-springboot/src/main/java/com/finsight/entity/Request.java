@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "FLOWAI_REQUESTS")
-public class Request {
+public class Request implements RequestView {
 
     @Id
     @Column(name = "REQUEST_ID")
@@ -89,7 +89,7 @@ public class Request {
         this.description = description;
         this.requestType = requestType;
         this.priority = priority;
-        this.createdBy = createdBy;
+        this.createdBy = User.canonicalNtid(createdBy);
         this.accountId = accountId;
         this.status = RequestStatus.OPEN;
         this.active = true;
@@ -149,7 +149,7 @@ public class Request {
     }
 
     public void setCreatedBy(String createdBy) {
-        this.createdBy = createdBy;
+        this.createdBy = User.canonicalNtid(createdBy);
     }
 
     public String getAssignedTo() {
@@ -157,7 +157,7 @@ public class Request {
     }
 
     public void setAssignedTo(String assignedTo) {
-        this.assignedTo = assignedTo;
+        this.assignedTo = User.canonicalNtid(assignedTo);
     }
 
     public Long getAccountId() {
@@ -197,7 +197,7 @@ public class Request {
     }
 
     public void setAssignedBy(String assignedBy) {
-        this.assignedBy = assignedBy;
+        this.assignedBy = User.canonicalNtid(assignedBy);
     }
 
     public LocalDateTime getEta() {
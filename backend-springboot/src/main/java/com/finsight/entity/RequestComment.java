@@ -1,18 +1,26 @@
 package com.finsight.entity;
 
 import jakarta.persistence.*;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 /**
  * Request Comment Entity
  * Stores comments on tickets, including ETA change comments
  * 
+ * Comment text is stored inline in COMMENT_TEXT_SHORT (VARCHAR2) when it fits,
+ * and only overflows to the COMMENT_TEXT CLOB for long comments. Use
+ * getCommentText()/setCommentText() - they hide the split from callers.
+ * 
  * @author Mukund Kute
  */
 @Entity
 @Table(name = "FLOWAI_REQUEST_COMMENTS")
 public class RequestComment {
 
+    // VARCHAR2(4000) limit is in bytes, so compare the UTF-8 encoded length
+    public static final int MAX_INLINE_TEXT_BYTES = 4000;
+
     @Id
     @Column(name = "COMMENT_ID")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
@@ -22,8 +30,11 @@ public class RequestComment {
     @Column(name = "REQUEST_ID", nullable = false)
     private Long requestId;
 
-    @Column(name = "COMMENT_TEXT", columnDefinition = "CLOB", nullable = false)
-    private String commentText;
+    @Column(name = "COMMENT_TEXT_SHORT", length = MAX_INLINE_TEXT_BYTES)
+    private String commentTextShort;
+
+    @Column(name = "COMMENT_TEXT", columnDefinition = "CLOB")
+    private String commentTextLong;
 
     @Column(name = "COMMENTED_BY", nullable = false, length = 50)
     private String commentedBy;
@@ -65,8 +76,8 @@ public class RequestComment {
 
     public RequestComment(Long requestId, String commentText, String commentedBy) {
         this.requestId = requestId;
-        this.commentText = commentText;
-        this.commentedBy = commentedBy;
+        setCommentText(commentText);
+        this.commentedBy = User.canonicalNtid(commentedBy);
         this.isEtaChange = false;
         this.active = true;
     }
@@ -89,11 +100,17 @@ public class RequestComment {
     }
 
     public String getCommentText() {
-        return commentText;
+        return commentTextShort != null ? commentTextShort : commentTextLong;
     }
 
     public void setCommentText(String commentText) {
-        this.commentText = commentText;
+        if (commentText == null || commentText.getBytes(StandardCharsets.UTF_8).length <= MAX_INLINE_TEXT_BYTES) {
+            this.commentTextShort = commentText;
+            this.commentTextLong = null;
+        } else {
+            this.commentTextShort = null;
+            this.commentTextLong = commentText;
+        }
     }
 
     public String getCommentedBy() {
@@ -101,7 +118,7 @@ public class RequestComment {
     }
 
     public void setCommentedBy(String commentedBy) {
-        this.commentedBy = commentedBy;
+        this.commentedBy = User.canonicalNtid(commentedBy);
     }
 
     public LocalDateTime getCommentedAt() {
@@ -0,0 +1,122 @@
+package com.finsight.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request Summary Entity
+ * Read-only mapping of FLOWAI_REQUESTS without the DESCRIPTION CLOB, used for list
+ * views that do not show the description (GET /api/requests?fields=...)
+ *
+ * @author Mukund Kute
+ */
+@Entity
+@Immutable
+@Table(name = "FLOWAI_REQUESTS")
+public class RequestSummary implements RequestView {
+
+    @Id
+    @Column(name = "REQUEST_ID")
+    private Long requestId;
+
+    @Column(name = "TITLE", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "REQUEST_TYPE", nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private RequestType requestType;
+
+    @Column(name = "PRIORITY", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private RequestPriority priority;
+
+    @Column(name = "STATUS", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private RequestStatus status;
+
+    @Column(name = "CREATED_BY", nullable = false, length = 50)
+    private String createdBy;
+
+    @Column(name = "ASSIGNED_TO", length = 50)
+    private String assignedTo;
+
+    @Column(name = "ACCOUNT_ID")
+    private Long accountId;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "ASSIGNED_AT")
+    private LocalDateTime assignedAt;
+
+    @Column(name = "ASSIGNED_BY", length = 50)
+    private String assignedBy;
+
+    @Column(name = "ETA")
+    private LocalDateTime eta;
+
+    @Column(name = "ACTIVE", nullable = false)
+    private Boolean active;
+
+    // Getters
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public RequestType getRequestType() {
+        return requestType;
+    }
+
+    public RequestPriority getPriority() {
+        return priority;
+    }
+
+    public RequestStatus getStatus() {
+        return status;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public String getAssignedTo() {
+        return assignedTo;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getAssignedAt() {
+        return assignedAt;
+    }
+
+    public String getAssignedBy() {
+        return assignedBy;
+    }
+
+    public LocalDateTime getEta() {
+        return eta;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+}
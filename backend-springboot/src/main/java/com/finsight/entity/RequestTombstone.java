@@ -0,0 +1,35 @@
+package com.finsight.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request Tombstone Entity
+ * A ticket removed from FLOWAI_REQUESTS (moved to the archive), kept so delta sync
+ * (GET /api/requests/changes) can tell clients to drop it
+ *
+ * @author Mukund Kute
+ */
+@Entity
+@Immutable
+@Table(name = "FLOWAI_REQUEST_TOMBSTONES")
+public class RequestTombstone {
+
+    @Id
+    @Column(name = "REQUEST_ID")
+    private Long requestId;
+
+    @Column(name = "REMOVED_AT", nullable = false)
+    private LocalDateTime removedAt;
+
+    // Getters
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public LocalDateTime getRemovedAt() {
+        return removedAt;
+    }
+}
@@ -0,0 +1,40 @@
+package com.finsight.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request View
+ * Ticket columns shared by the full Request entity and the description-less RequestSummary
+ *
+ * @author Mukund Kute
+ */
+public interface RequestView {
+
+    Long getRequestId();
+
+    String getTitle();
+
+    RequestType getRequestType();
+
+    RequestPriority getPriority();
+
+    RequestStatus getStatus();
+
+    String getCreatedBy();
+
+    String getAssignedTo();
+
+    String getAssignedBy();
+
+    Long getAccountId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getAssignedAt();
+
+    LocalDateTime getEta();
+
+    Boolean getActive();
+}
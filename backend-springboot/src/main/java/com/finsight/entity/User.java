@@ -3,14 +3,20 @@ package com.finsight.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * User Entity
+ * Held in the second-level cache (see ehcache.xml); findByNtid reads through it
  * 
  * @author Mukund Kute
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "FLOWAI_USERS", uniqueConstraints = {
     @UniqueConstraint(columnNames = "ntid")
 })
@@ -55,7 +61,7 @@ public class User {
     }
 
     public User(String ntid, String email, String account, Long accountId, String password) {
-        this.ntid = ntid;
+        this.ntid = canonicalNtid(ntid);
         this.email = email;
         this.account = account;
         this.accountId = accountId;
@@ -71,7 +77,15 @@ public class User {
     }
 
     public void setNtid(String ntid) {
-        this.ntid = ntid;
+        this.ntid = canonicalNtid(ntid);
+    }
+
+    /**
+     * The stored form of an NTID (trimmed, lower case). Every NTID column holds this
+     * form, so lookups compare with plain equality and can use the indexes
+     */
+    public static String canonicalNtid(String ntid) {
+        return ntid == null ? null : ntid.trim().toLowerCase(Locale.ROOT);
     }
 
     public String getEmail() {
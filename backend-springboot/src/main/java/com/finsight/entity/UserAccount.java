@@ -47,7 +47,7 @@ public class UserAccount {
     }
 
     public UserAccount(String ntid, Long accountId) {
-        this.ntid = ntid;
+        this.ntid = User.canonicalNtid(ntid);
         this.accountId = accountId;
         this.active = true;
     }
@@ -66,7 +66,7 @@ public class UserAccount {
     }
 
     public void setNtid(String ntid) {
-        this.ntid = ntid;
+        this.ntid = User.canonicalNtid(ntid);
     }
 
     public Long getAccountId() {
@@ -1,7 +1,10 @@
 package com.finsight.repository;
 
 import com.finsight.entity.Account;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,17 +12,25 @@ import java.util.Optional;
 
 /**
  * Account Repository
+ * Listing and name lookups use the Hibernate query cache
  * 
  * @author Mukund Kute
  */
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Account> findByActiveTrueOrderByAccountNameAsc();
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Account> findAllByOrderByAccountNameAsc();
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Account> findByAccountName(String accountName);
     
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Account> findAll();
+    
     boolean existsByAccountName(String accountName);
 }
@@ -0,0 +1,29 @@
+package com.finsight.repository;
+
+import com.finsight.entity.ArchivedRequestComment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Archived Request Comment Repository
+ * Reads of FLOWAI_REQUEST_COMMENTS_ARCHIVE, mirroring the RequestCommentRepository reads
+ *
+ * @author Mukund Kute
+ */
+@org.springframework.stereotype.Repository
+public interface ArchivedRequestCommentRepository extends Repository<ArchivedRequestComment, Long> {
+
+    // Active comments of an archived request, ordered by date (oldest first)
+    @Query("SELECT c FROM ArchivedRequestComment c WHERE c.requestId = :requestId AND c.active = true ORDER BY c.commentedAt ASC")
+    List<ArchivedRequestComment> findByRequestIdAndActiveTrueOrderByCommentedAtAsc(@Param("requestId") Long requestId);
+
+    // Page of active comments of an archived request, ordered by date (oldest first)
+    @Query(value = "SELECT c FROM ArchivedRequestComment c WHERE c.requestId = :requestId AND c.active = true ORDER BY c.commentedAt ASC",
+           countQuery = "SELECT COUNT(c) FROM ArchivedRequestComment c WHERE c.requestId = :requestId AND c.active = true")
+    Page<ArchivedRequestComment> findPageByRequestId(@Param("requestId") Long requestId, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.finsight.repository;
+
+import com.finsight.entity.ArchivedRequest;
+import org.springframework.data.repository.Repository;
+
+import java.util.Optional;
+
+/**
+ * Archived Request Repository
+ * Reads of FLOWAI_REQUESTS_ARCHIVE; rows are written only by TicketArchiveService
+ *
+ * @author Mukund Kute
+ */
+@org.springframework.stereotype.Repository
+public interface ArchivedRequestRepository extends Repository<ArchivedRequest, Long> {
+
+    Optional<ArchivedRequest> findById(Long requestId);
+}
@@ -1,11 +1,15 @@
 package com.finsight.repository;
 
+import com.finsight.dto.CommentActivityDTO;
 import com.finsight.entity.RequestComment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,4 +26,14 @@ public interface RequestCommentRepository extends JpaRepository<RequestComment,
     
     // Find all comments for a request (including inactive)
     List<RequestComment> findByRequestIdOrderByCommentedAtAsc(Long requestId);
+    
+    // Page of active comments for a request, ordered by date (oldest first)
+    @Query(value = "SELECT c FROM RequestComment c WHERE c.requestId = :requestId AND c.active = true ORDER BY c.commentedAt ASC",
+           countQuery = "SELECT COUNT(c) FROM RequestComment c WHERE c.requestId = :requestId AND c.active = true")
+    Page<RequestComment> findPageByRequestId(@Param("requestId") Long requestId, Pageable pageable);
+    
+    // Comment count and latest comment timestamp for several requests in one GROUP BY query
+    @Query("SELECT new com.finsight.dto.CommentActivityDTO(c.requestId, COUNT(c), MAX(c.commentedAt)) " +
+           "FROM RequestComment c WHERE c.requestId IN :requestIds AND c.active = true GROUP BY c.requestId")
+    List<CommentActivityDTO> findCommentActivityByRequestIds(@Param("requestIds") Collection<Long> requestIds);
 }
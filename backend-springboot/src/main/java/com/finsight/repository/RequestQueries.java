@@ -0,0 +1,58 @@
+package com.finsight.repository;
+
+import com.finsight.entity.RequestPriority;
+import com.finsight.entity.RequestStatus;
+import com.finsight.entity.RequestType;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request Queries
+ * Ticket list queries shared by RequestRepository (full rows) and
+ * RequestSummaryRepository (rows without the description)
+ *
+ * @author Mukund Kute
+ */
+@NoRepositoryBean
+public interface RequestQueries<T> {
+
+    // Find by created by
+    List<T> findByCreatedByAndActiveTrueOrderByCreatedAtDesc(String createdBy);
+
+    // Find by assigned to (NTIDs are stored canonical, see User.canonicalNtid)
+    List<T> findByAssignedToAndActiveTrueOrderByCreatedAtDesc(String assignedTo);
+
+    // Find all assigned tickets (assignedTo is not null) regardless of status
+    @Query("SELECT r FROM #{#entityName} r WHERE r.assignedTo IS NOT NULL AND r.active = true ORDER BY r.createdAt DESC")
+    List<T> findAllAssignedTicketsOrderByCreatedAtDesc();
+
+    // Find by status
+    List<T> findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus status);
+
+    // Find by account
+    List<T> findByAccountIdAndActiveTrueOrderByCreatedAtDesc(Long accountId);
+
+    // Find active requests
+    List<T> findByActiveTrueOrderByCreatedAtDesc();
+
+    // Rows updated after a point in time, including inactive ones (delta sync)
+    List<T> findByUpdatedAtAfterOrderByUpdatedAtAsc(LocalDateTime updatedAt);
+
+    // Find requests by multiple filters
+    @Query("SELECT r FROM #{#entityName} r WHERE r.active = true " +
+           "AND (:status IS NULL OR r.status = :status) " +
+           "AND (:priority IS NULL OR r.priority = :priority) " +
+           "AND (:requestType IS NULL OR r.requestType = :requestType) " +
+           "AND (:accountId IS NULL OR r.accountId = :accountId) " +
+           "ORDER BY r.createdAt DESC")
+    List<T> findWithFilters(
+        @Param("status") RequestStatus status,
+        @Param("priority") RequestPriority priority,
+        @Param("requestType") RequestType requestType,
+        @Param("accountId") Long accountId
+    );
+}
@@ -4,6 +4,7 @@ import com.finsight.entity.Request;
 import com.finsight.entity.RequestPriority;
 import com.finsight.entity.RequestStatus;
 import com.finsight.entity.RequestType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,28 +15,12 @@ import java.util.List;
 
 /**
  * Request Repository
+ * Ticket list queries are inherited from RequestQueries
  * 
  * @author Mukund Kute
  */
 @Repository
-public interface RequestRepository extends JpaRepository<Request, Long> {
-
-    // Find by created by
-    List<Request> findByCreatedByAndActiveTrueOrderByCreatedAtDesc(String createdBy);
-
-    // Find by assigned to (case-insensitive for Oracle)
-    @Query("SELECT r FROM Request r WHERE UPPER(r.assignedTo) = UPPER(:assignedTo) AND r.active = true ORDER BY r.createdAt DESC")
-    List<Request> findByAssignedToAndActiveTrueOrderByCreatedAtDesc(@Param("assignedTo") String assignedTo);
-    
-    // Find all assigned tickets (assignedTo is not null) regardless of status
-    @Query("SELECT r FROM Request r WHERE r.assignedTo IS NOT NULL AND r.active = true ORDER BY r.createdAt DESC")
-    List<Request> findAllAssignedTicketsOrderByCreatedAtDesc();
-
-    // Find by status
-    List<Request> findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus status);
-
-    // Find by account
-    List<Request> findByAccountIdAndActiveTrueOrderByCreatedAtDesc(Long accountId);
+public interface RequestRepository extends JpaRepository<Request, Long>, RequestQueries<Request> {
 
     // Find by priority
     List<Request> findByPriorityAndActiveTrueOrderByCreatedAtDesc(RequestPriority priority);
@@ -43,27 +28,10 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
     // Find by request type
     List<Request> findByRequestTypeAndActiveTrueOrderByCreatedAtDesc(RequestType requestType);
 
-    // Find active requests
-    List<Request> findByActiveTrueOrderByCreatedAtDesc();
-
     // Find requests approaching ETA (within threshold minutes)
     @Query("SELECT r FROM Request r WHERE r.active = true AND r.eta IS NOT NULL AND r.eta <= :thresholdTime AND r.status NOT IN ('COMPLETED', 'CANCELLED') ORDER BY r.eta ASC")
     List<Request> findRequestsApproachingEta(@Param("thresholdTime") LocalDateTime thresholdTime);
 
-    // Find requests by multiple filters
-    @Query("SELECT r FROM Request r WHERE r.active = true " +
-           "AND (:status IS NULL OR r.status = :status) " +
-           "AND (:priority IS NULL OR r.priority = :priority) " +
-           "AND (:requestType IS NULL OR r.requestType = :requestType) " +
-           "AND (:accountId IS NULL OR r.accountId = :accountId) " +
-           "ORDER BY r.createdAt DESC")
-    List<Request> findWithFilters(
-        @Param("status") RequestStatus status,
-        @Param("priority") RequestPriority priority,
-        @Param("requestType") RequestType requestType,
-        @Param("accountId") Long accountId
-    );
-
     // Find requests by multiple account IDs (for SCRUM_MASTER)
     @Query("SELECT r FROM Request r WHERE r.active = true " +
            "AND r.accountId IN :accountIds " +
@@ -83,4 +51,10 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
 
     // Count by assigned to
     long countByAssignedToAndActiveTrue(String assignedTo);
+
+    // Closed (COMPLETED, CANCELLED) or soft-deleted tickets last updated before the cutoff,
+    // oldest first (page size = archive chunk size)
+    @Query("SELECT r.requestId FROM Request r WHERE r.updatedAt < :cutoff " +
+           "AND (r.status IN ('COMPLETED', 'CANCELLED') OR r.active = false) ORDER BY r.updatedAt ASC")
+    List<Long> findArchivableRequestIds(@Param("cutoff") LocalDateTime cutoff, Pageable page);
 }
@@ -0,0 +1,32 @@
+package com.finsight.repository;
+
+import com.finsight.entity.RequestSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Request Summary Repository
+ * The ticket list queries, selecting every column except DESCRIPTION, and the chunked
+ * (keyset by request ID) reads used by ticket exports
+ *
+ * @author Mukund Kute
+ */
+@org.springframework.stereotype.Repository
+public interface RequestSummaryRepository extends Repository<RequestSummary, Long>, RequestQueries<RequestSummary> {
+
+    // Next chunk of active tickets after a request ID (page size = chunk size)
+    @Query("SELECT r FROM RequestSummary r WHERE r.active = true AND r.requestId > :afterId ORDER BY r.requestId")
+    List<RequestSummary> findActiveAfter(@Param("afterId") Long afterId, Pageable page);
+
+    // Next chunk of one account's active tickets after a request ID
+    @Query("SELECT r FROM RequestSummary r WHERE r.active = true AND r.accountId = :accountId AND r.requestId > :afterId ORDER BY r.requestId")
+    List<RequestSummary> findActiveByAccountAfter(@Param("accountId") Long accountId, @Param("afterId") Long afterId, Pageable page);
+
+    long countByActiveTrue();
+
+    long countByAccountIdAndActiveTrue(Long accountId);
+}
@@ -0,0 +1,29 @@
+package com.finsight.repository;
+
+import com.finsight.entity.RequestTombstone;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request Tombstone Repository
+ * Rows are written by TicketArchiveService together with the archive move
+ *
+ * @author Mukund Kute
+ */
+@org.springframework.stereotype.Repository
+public interface RequestTombstoneRepository extends Repository<RequestTombstone, Long> {
+
+    // Tickets removed after a point in time (delta sync)
+    @Query("SELECT t.requestId FROM RequestTombstone t WHERE t.removedAt > :since")
+    List<Long> findRequestIdsRemovedAfter(@Param("since") LocalDateTime since);
+
+    // Purge tombstones older than the sync token retention
+    @Modifying
+    @Query("DELETE FROM RequestTombstone t WHERE t.removedAt < :cutoff")
+    int deleteRemovedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -3,6 +3,7 @@ package com.finsight.repository;
 import com.finsight.entity.User;
 import com.finsight.entity.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,7 +17,13 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     
-    Optional<User> findByNtid(String ntid);
+    /**
+     * NTID is the primary key, so look it up by id to read through the second-level cache.
+     * Any spelling of the NTID finds the user (ids are stored canonical)
+     */
+    default Optional<User> findByNtid(String ntid) {
+        return ntid == null ? Optional.empty() : findById(User.canonicalNtid(ntid));
+    }
     
     Optional<User> findByEmail(String email);
     
@@ -32,4 +39,8 @@ public interface UserRepository extends JpaRepository<User, String> {
     
     // Find all users (both active and inactive)
     List<User> findAllByOrderByNtidAsc();
+    
+    // NTID and email of every user in one query (for bulk import duplicate checks)
+    @Query("SELECT u.ntid, u.email FROM User u")
+    List<Object[]> findAllNtidsAndEmails();
 }
@@ -5,6 +5,8 @@ import com.finsight.dto.LoginRequestDTO;
 import com.finsight.entity.User;
 import com.finsight.entity.UserRole;
 import com.finsight.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AuthenticationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationService.class);
+
     @Autowired
     private UserRepository userRepository;
 
@@ -28,31 +32,31 @@ public class AuthenticationService {
      * Authenticate user
      */
     public AuthResponseDTO authenticate(LoginRequestDTO loginRequest) {
-        System.out.println("  [AuthenticationService] authenticate() called");
-        String ntid = loginRequest.getNtid().toLowerCase();
+        logger.debug("Authenticate() called");
+        String ntid = User.canonicalNtid(loginRequest.getNtid());
         // Password validation can be added here in the future
-        System.out.println("  [AuthenticationService] Authenticating NTID: " + ntid);
+        logger.debug("Authenticating NTID: {}", ntid);
 
         // Check database users
-        System.out.println("  [AuthenticationService] Checking database for user...");
+        logger.debug("Checking database for user...");
         User user = userRepository.findByNtid(ntid)
             .orElseThrow(() -> {
-                System.out.println("  [AuthenticationService] ERROR: User not found in database");
+                logger.warn("User not found in database");
                 return new RuntimeException("User not found");
             });
 
-        System.out.println("  [AuthenticationService] User found in database:");
-        System.out.println("    - NTID: " + user.getNtid());
-        System.out.println("    - Email: " + user.getEmail());
-        System.out.println("    - Role: " + user.getRole());
-        System.out.println("    - Active: " + user.getActive());
+        logger.debug("User found in database:");
+        logger.debug("- NTID: {}", user.getNtid());
+        logger.debug("- Email: {}", user.getEmail());
+        logger.debug("- Role: {}", user.getRole());
+        logger.debug("- Active: {}", user.getActive());
 
         if (!user.getActive()) {
-            System.out.println("  [AuthenticationService] ERROR: User account is inactive");
+            logger.warn("User account is inactive");
             throw new RuntimeException("User account is inactive");
         }
 
-        System.out.println("  [AuthenticationService] User account is active");
+        logger.debug("User account is active");
         
         // Validate password
         String providedPassword = loginRequest.getPassword();
@@ -61,7 +65,7 @@ public class AuthenticationService {
         if (storedPassword == null || storedPassword.isEmpty()) {
             // Legacy users without password - use NTID as password
             if (!ntid.equals(providedPassword)) {
-                System.out.println("  [AuthenticationService] ERROR: Invalid password");
+                logger.warn("Invalid password");
                 throw new RuntimeException("Invalid credentials");
             }
         } else {
@@ -69,23 +73,23 @@ public class AuthenticationService {
             if (storedPassword.startsWith("$2a$") || storedPassword.startsWith("$2b$") || storedPassword.startsWith("$2y$")) {
                 // Password is hashed - use BCrypt to verify
                 if (!passwordEncoder.matches(providedPassword, storedPassword)) {
-                    System.out.println("  [AuthenticationService] ERROR: Invalid password (hashed)");
+                    logger.warn("Invalid password (hashed)");
                     throw new RuntimeException("Invalid credentials");
                 }
             } else {
                 // Legacy plain text password - verify directly, then update to hashed
                 if (!storedPassword.equals(providedPassword)) {
-                    System.out.println("  [AuthenticationService] ERROR: Invalid password (plain text)");
+                    logger.warn("Invalid password (plain text)");
                     throw new RuntimeException("Invalid credentials");
                 }
                 // Migrate to hashed password
-                System.out.println("  [AuthenticationService] Migrating plain text password to hashed");
+                logger.debug("Migrating plain text password to hashed");
                 updatePasswordToHashed(user, providedPassword);
             }
         }
         
-        System.out.println("  [AuthenticationService] Password validated");
-        System.out.println("  [AuthenticationService] User authentication SUCCESS");
+        logger.debug("Password validated");
+        logger.debug("User authentication SUCCESS");
         
         return new AuthResponseDTO(
             user.getNtid(),
@@ -104,7 +108,7 @@ public class AuthenticationService {
         String hashedPassword = passwordEncoder.encode(plainPassword);
         user.setPassword(hashedPassword);
         userRepository.save(user);
-        System.out.println("  [AuthenticationService] Password migrated to hashed format");
+        logger.debug("Password migrated to hashed format");
     }
 
     /**
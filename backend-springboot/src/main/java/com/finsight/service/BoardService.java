@@ -0,0 +1,434 @@
+package com.finsight.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.dto.BoardCardDTO;
+import com.finsight.entity.Request;
+import com.finsight.entity.RequestSummary;
+import com.finsight.entity.User;
+import com.finsight.entity.UserRole;
+import com.finsight.repository.RequestSummaryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Board Service
+ * In-memory kanban boards (tickets of one account, grouped by status) for the /ws/board channel.
+ * A board is loaded when its first client connects and dropped when its last one leaves; in
+ * between, every RequestService mutation is applied to it after commit and only the difference
+ * is pushed to the account's clients:
+ *
+ * - snapshot: all cards, sent once on connect
+ * - added / removed: a card appeared (new ticket) or left (deleted, archived)
+ * - moved: status changed (from, to)
+ * - eta: ETA changed
+ * - updated: title, type, priority or assignee changed (only the changed fields)
+ *
+ * Every message carries the board's seq; a client that sees a gap reconnects for a new snapshot.
+ * Changes older than the card (updatedAt) are ignored, so late or duplicate commits cannot move
+ * a card back. A ticket moved to another account leaves the old account's board.
+ *
+ * Messages are queued per board and written to the sockets by finsight.board.send-threads
+ * threads, one board at a time, so a commit never waits on a client. Clients that fall behind by
+ * finsight.board.send-time-limit-ms or finsight.board.buffer-size-limit bytes are disconnected.
+ *
+ * Boards and sessions are in memory per instance. Connected sessions are gauged as
+ * finsight.board.sessions and pushed diffs counted as finsight.board.diffs (type tag)
+ *
+ * @author Mukund Kute
+ */
+@Service
+public class BoardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardService.class);
+
+    @Autowired
+    private RequestSummaryRepository requestSummaryRepository;
+
+    @Autowired
+    private CallerContext callerContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${finsight.board.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${finsight.board.buffer-size-limit:524288}")
+    private int bufferSizeLimit;
+
+    @Value("${finsight.board.send-threads:4}")
+    private int sendThreads;
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+    // Runs the boards' send queues; each board has at most one drain task queued or running
+    private ThreadPoolExecutor sender;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = new ThreadPoolExecutor(sendThreads, sendThreads, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "board-send-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        Gauge.builder("finsight.board.sessions", boards,
+                all -> all.values().stream().mapToInt(board -> board.members.size()).sum())
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * ADMIN: any account; SCRUM_MASTER: accounts they handle; MANAGER: their own account
+     */
+    public boolean canView(User user, Long accountId) {
+        if (user.getRole() == UserRole.ADMIN) {
+            return true;
+        }
+        if (user.getRole() == UserRole.SCRUM_MASTER) {
+            return callerContext.handledAccountIds(user).contains(accountId);
+        }
+        return user.getRole() == UserRole.MANAGER && accountId.equals(user.getAccountId());
+    }
+
+    /**
+     * Add a client to an account's board (loading the board if needed) and send it the snapshot
+     */
+    public void subscribe(WebSocketSession session, Long accountId) throws IOException {
+        while (true) {
+            Board board = boards.computeIfAbsent(accountId, Board::new);
+            synchronized (board) {
+                if (board.closed) {
+                    // The last client left while we waited; start over with a fresh board
+                    continue;
+                }
+                try {
+                    if (!board.loaded) {
+                        for (RequestSummary request : requestSummaryRepository.findByAccountIdAndActiveTrueOrderByCreatedAtDesc(accountId)) {
+                            board.cards.put(request.getRequestId(), new BoardCardDTO(request));
+                        }
+                        board.loaded = true;
+                        logger.debug("Board for account {} loaded with {} cards", accountId, board.cards.size());
+                    }
+                    Map<String, Object> snapshot = message("snapshot", board);
+                    snapshot.put("accountId", accountId);
+                    snapshot.put("cards", board.cards.values());
+                    TextMessage text = new TextMessage(objectMapper.writeValueAsString(snapshot));
+                    WebSocketSession client = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, bufferSizeLimit);
+                    board.members.add(session.getId());
+                    // Queued behind the diffs already numbered: the client gets the snapshot, then only later diffs
+                    enqueue(board, () -> {
+                        if (deliver(board, client, text)) {
+                            board.sessions.put(client.getId(), client);
+                        }
+                    });
+                } finally {
+                    closeIfIdle(board);
+                }
+                return;
+            }
+        }
+    }
+
+    public void unsubscribe(WebSocketSession session, Long accountId) {
+        Board board = boards.get(accountId);
+        if (board == null) {
+            return;
+        }
+        synchronized (board) {
+            board.members.remove(session.getId());
+            enqueue(board, () -> board.sessions.remove(session.getId()));
+            closeIfIdle(board);
+        }
+    }
+
+    /**
+     * Push the request's new state to its account's board once the current transaction commits;
+     * if the account changed, the card leaves the board it was on
+     */
+    public void publish(Request request) {
+        afterCommit(() -> {
+            // Read after the flush, which sets updatedAt
+            Long accountId = request.getAccountId();
+            BoardCardDTO card = new BoardCardDTO(request);
+            boolean active = Boolean.TRUE.equals(request.getActive());
+            for (Board board : boards.values()) {
+                if (!board.accountId.equals(accountId)) {
+                    removeIfOlder(board, card);
+                }
+            }
+            apply(accountId, card, active);
+        });
+    }
+
+    /**
+     * Remove cards (e.g. archived tickets) from every board once the current transaction commits
+     */
+    public void removeCards(Collection<Long> requestIds) {
+        List<Long> ids = new ArrayList<>(requestIds);
+        afterCommit(() -> {
+            for (Board board : boards.values()) {
+                synchronized (board) {
+                    for (Long requestId : ids) {
+                        removeCard(board, requestId);
+                    }
+                }
+            }
+        });
+    }
+
+    private void apply(Long accountId, BoardCardDTO card, boolean active) {
+        Board board = accountId != null ? boards.get(accountId) : null;
+        if (board == null) {
+            return;
+        }
+        synchronized (board) {
+            if (!board.loaded || board.closed) {
+                return;
+            }
+            BoardCardDTO current = board.cards.get(card.getRequestId());
+            if (current != null && card.getUpdatedAt() != null && current.getUpdatedAt() != null
+                    && !card.getUpdatedAt().isAfter(current.getUpdatedAt())) {
+                return;
+            }
+
+            if (!active) {
+                removeCard(board, card.getRequestId());
+                return;
+            }
+
+            board.cards.put(card.getRequestId(), card);
+            if (current == null) {
+                Map<String, Object> added = message("added", board);
+                added.put("card", card);
+                broadcast(board, added);
+                return;
+            }
+
+            if (current.getStatus() != card.getStatus()) {
+                Map<String, Object> moved = message("moved", board);
+                moved.put("requestId", card.getRequestId());
+                moved.put("from", current.getStatus());
+                moved.put("to", card.getStatus());
+                broadcast(board, moved);
+            }
+            if (!Objects.equals(current.getEta(), card.getEta())) {
+                Map<String, Object> eta = message("eta", board);
+                eta.put("requestId", card.getRequestId());
+                eta.put("eta", card.getEta());
+                broadcast(board, eta);
+            }
+            Map<String, Object> fields = new LinkedHashMap<>();
+            if (!Objects.equals(current.getTitle(), card.getTitle())) {
+                fields.put("title", card.getTitle());
+            }
+            if (current.getRequestType() != card.getRequestType()) {
+                fields.put("requestType", card.getRequestType());
+            }
+            if (current.getPriority() != card.getPriority()) {
+                fields.put("priority", card.getPriority());
+            }
+            if (!Objects.equals(current.getAssignedTo(), card.getAssignedTo())) {
+                fields.put("assignedTo", card.getAssignedTo());
+            }
+            if (!fields.isEmpty()) {
+                Map<String, Object> updated = message("updated", board);
+                updated.put("requestId", card.getRequestId());
+                updated.put("fields", fields);
+                broadcast(board, updated);
+            }
+        }
+    }
+
+    /**
+     * Drop the card from a board that is not its account's, unless the board already has a newer state
+     */
+    private void removeIfOlder(Board board, BoardCardDTO card) {
+        synchronized (board) {
+            if (!board.loaded || board.closed) {
+                return;
+            }
+            BoardCardDTO current = board.cards.get(card.getRequestId());
+            if (current != null && (card.getUpdatedAt() == null || current.getUpdatedAt() == null
+                    || card.getUpdatedAt().isAfter(current.getUpdatedAt()))) {
+                removeCard(board, card.getRequestId());
+            }
+        }
+    }
+
+    /**
+     * The caller holds the board lock
+     */
+    private void removeCard(Board board, Long requestId) {
+        if (board.cards.remove(requestId) != null) {
+            Map<String, Object> removed = message("removed", board);
+            removed.put("requestId", requestId);
+            broadcast(board, removed);
+        }
+    }
+
+    /**
+     * New message with the board's next seq; the caller holds the board lock
+     */
+    private Map<String, Object> message(String type, Board board) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", type);
+        message.put("seq", type.equals("snapshot") ? board.seq : ++board.seq);
+        return message;
+    }
+
+    /**
+     * Serialize once and queue the send to every client of the board; the caller holds the board lock
+     */
+    private void broadcast(Board board, Map<String, Object> message) {
+        meterRegistry.counter("finsight.board.diffs", "type", (String) message.get("type")).increment();
+        if (board.members.isEmpty()) {
+            return;
+        }
+        TextMessage text;
+        try {
+            text = new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (IOException e) {
+            logger.error("Board message for account {} could not be serialized", board.accountId, e);
+            return;
+        }
+        enqueue(board, () -> {
+            for (WebSocketSession client : new ArrayList<>(board.sessions.values())) {
+                deliver(board, client, text);
+            }
+        });
+    }
+
+    /**
+     * Add a send to the board's queue and start draining it if it is idle; the caller holds the board lock
+     */
+    private void enqueue(Board board, Runnable send) {
+        board.outbox.add(send);
+        if (!board.draining) {
+            board.draining = true;
+            sender.execute(() -> drain(board));
+        }
+    }
+
+    /**
+     * Run the board's queued sends in order, outside the board lock
+     */
+    private void drain(Board board) {
+        while (true) {
+            Runnable send;
+            synchronized (board) {
+                send = board.outbox.poll();
+                if (send == null) {
+                    board.draining = false;
+                    return;
+                }
+            }
+            try {
+                send.run();
+            } catch (RuntimeException e) {
+                logger.error("Board send for account {} failed", board.accountId, e);
+            }
+        }
+    }
+
+    /**
+     * Runs on a send thread; a slow or broken client is closed (its handler then unsubscribes it)
+     * and reconnects for a fresh snapshot
+     */
+    private boolean deliver(Board board, WebSocketSession client, TextMessage text) {
+        try {
+            client.sendMessage(text);
+            return true;
+        } catch (Exception e) {
+            logger.debug("Dropping board client {} of account {}: {}", client.getId(), board.accountId, e.getMessage());
+            board.sessions.remove(client.getId());
+            closeQuietly(client);
+            return false;
+        }
+    }
+
+    private void closeIfIdle(Board board) {
+        if (board.members.isEmpty() && !board.closed) {
+            board.closed = true;
+            boards.remove(board.accountId, board);
+        }
+    }
+
+    private static void closeQuietly(WebSocketSession client) {
+        try {
+            client.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            logger.debug("Closing board client {} failed: {}", client.getId(), e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static class Board {
+        private final Long accountId;
+        private final Map<Long, BoardCardDTO> cards = new LinkedHashMap<>();
+        // Subscribed session IDs, changed under the board lock
+        private final Set<String> members = ConcurrentHashMap.newKeySet();
+        // Clients that got their snapshot, only touched by the board's sends (one at a time)
+        private final Map<String, WebSocketSession> sessions = new HashMap<>();
+        private final Queue<Runnable> outbox = new ArrayDeque<>();
+        private boolean draining;
+        private long seq;
+        private boolean loaded;
+        private boolean closed;
+
+        private Board(Long accountId) {
+            this.accountId = accountId;
+        }
+    }
+}
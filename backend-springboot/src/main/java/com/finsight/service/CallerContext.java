@@ -0,0 +1,111 @@
+package com.finsight.service;
+
+import com.finsight.entity.User;
+import com.finsight.entity.UserRole;
+import com.finsight.repository.UserAccountRepository;
+import com.finsight.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caller Context
+ * Resolves the calling user (from the X-User-NTID header) and the account IDs they handle
+ * at most once per HTTP request; services ask this instead of the repositories, so a
+ * request that checks permissions in several places does not repeat the lookups
+ *
+ * Results are kept as a request attribute, keyed by canonical NTID. Outside an HTTP request
+ * (background jobs, benchmarks) every call goes to the repositories
+ *
+ * @author Mukund Kute
+ */
+@Component
+public class CallerContext {
+
+    private static final String CACHE_ATTRIBUTE = CallerContext.class.getName() + ".callers";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    /**
+     * The calling user, or a RuntimeException("User not found: ...") if there is none
+     */
+    public User requireUser(String ntid) {
+        return findUser(ntid).orElseThrow(() -> new RuntimeException("User not found: " + ntid));
+    }
+
+    public Optional<User> findUser(String ntid) {
+        if (ntid == null) {
+            return Optional.empty();
+        }
+        Caller caller = resolve(ntid);
+        return Optional.ofNullable(caller != null ? caller.user : userRepository.findByNtid(ntid).orElse(null));
+    }
+
+    /**
+     * Accounts the user handles: their FLOWAI_USER_ACCOUNTS rows, or the account on the user
+     * record when they have none
+     */
+    public List<Long> handledAccountIds(User user) {
+        Caller caller = resolve(user.getNtid());
+        if (caller == null) {
+            return loadHandledAccountIds(user);
+        }
+        if (caller.handledAccountIds == null) {
+            caller.handledAccountIds = loadHandledAccountIds(user);
+        }
+        return caller.handledAccountIds;
+    }
+
+    /**
+     * Callers with the same scope see the same tickets: all ADMINs share one, anyone else has their own
+     */
+    public String visibilityScope(User user) {
+        return user.getRole() == UserRole.ADMIN ? UserRole.ADMIN.name() : user.getRole() + ":" + user.getNtid();
+    }
+
+    private List<Long> loadHandledAccountIds(User user) {
+        List<Long> junctionAccountIds = userAccountRepository.findAccountIdsByNtid(user.getNtid());
+        if (junctionAccountIds.isEmpty() && user.getAccountId() != null) {
+            return List.of(user.getAccountId());
+        }
+        return junctionAccountIds;
+    }
+
+    /**
+     * The cached entry for this NTID in the current HTTP request, looking the user up on first use;
+     * null when there is no current request
+     */
+    @SuppressWarnings("unchecked")
+    private Caller resolve(String ntid) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Caller> callers = (Map<String, Caller>) attributes.getAttribute(CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (callers == null) {
+            callers = new HashMap<>();
+            attributes.setAttribute(CACHE_ATTRIBUTE, callers, RequestAttributes.SCOPE_REQUEST);
+        }
+        return callers.computeIfAbsent(User.canonicalNtid(ntid),
+            canonical -> new Caller(userRepository.findByNtid(canonical).orElse(null)));
+    }
+
+    private static class Caller {
+        private final User user;
+        private List<Long> handledAccountIds;
+
+        private Caller(User user) {
+            this.user = user;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.finsight.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose concurrent identical calls may share one execution
+ * (see CoalescingAspect). Calls are identical when the method, the arguments other than the
+ * caller NTID and, for caller-scoped methods, the caller's visibility scope are equal
+ *
+ * The shared result is handed to every caller, so callers must not modify it
+ *
+ * @author Mukund Kute
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+
+    /**
+     * Index of the caller NTID argument, or -1 when the method has none.
+     * The caller is checked to exist before joining a shared call
+     */
+    int caller() default -1;
+
+    /**
+     * True when the result depends on what the caller may see (calls are shared between ADMINs,
+     * otherwise only between calls of the same user); false when it is the same for everyone,
+     * in which case the method may check no more than that the caller exists
+     */
+    boolean callerScoped() default false;
+}
@@ -0,0 +1,108 @@
+package com.finsight.service;
+
+import com.finsight.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalescing Aspect
+ * Single-flight for @Coalesced service reads: while one call is running, identical calls wait
+ * for it and get its result (or its exception) instead of querying the database again, so a
+ * dashboard spike costs one query set per distinct call rather than one per caller
+ *
+ * Runs outside the transaction interceptor, so waiting callers hold no database connection.
+ * Nothing is kept after the call completes; this is not a cache.
+ * Counted as finsight.request.coalesced (method and role tags: leader or follower)
+ *
+ * @author Mukund Kute
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CoalescingAspect {
+
+    @Autowired
+    private CallerContext callerContext;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${finsight.coalescing.enabled:true}")
+    private boolean enabled;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Around("@annotation(com.finsight.service.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String key = key(joinPoint, method.getAnnotation(Coalesced.class));
+        if (key == null) {
+            // Unknown caller: let the method report it
+            return joinPoint.proceed();
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            meterRegistry.counter("finsight.request.coalesced", "method", method.getName(), "role", "follower").increment();
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+
+        meterRegistry.counter("finsight.request.coalesced", "method", method.getName(), "role", "leader").increment();
+        try {
+            Object result = joinPoint.proceed();
+            flight.complete(result);
+            return result;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Method signature, the arguments other than the caller, and the caller's visibility scope;
+     * null when the caller does not exist
+     */
+    private String key(ProceedingJoinPoint joinPoint, Coalesced coalesced) {
+        StringBuilder key = new StringBuilder(joinPoint.getSignature().toLongString());
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            if (i != coalesced.caller()) {
+                key.append('|').append(args[i]);
+            }
+        }
+        if (coalesced.caller() >= 0) {
+            User caller = callerContext.findUser((String) args[coalesced.caller()]).orElse(null);
+            if (caller == null) {
+                return null;
+            }
+            if (coalesced.callerScoped()) {
+                key.append("|scope=").append(callerContext.visibilityScope(caller));
+            }
+        }
+        return key.toString();
+    }
+}
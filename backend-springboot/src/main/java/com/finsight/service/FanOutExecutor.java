@@ -0,0 +1,101 @@
+package com.finsight.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Fan-Out Executor
+ * Runs independent blocking lookups (one query per account or user) in parallel on the
+ * application task executor, which uses virtual threads when spring.threads.virtual.enabled
+ * is set on JDK 21
+ *
+ * At most finsight.fan-out.max-parallel lookups run at once per call so one statistics
+ * request cannot take every database connection; 1 (the default) runs them inline.
+ * Lookups fanned out from a read-only transaction run in read-only transactions of the
+ * same name, so they are routed to the same (replica) database
+ *
+ * @author Mukund Kute
+ */
+@Component
+public class FanOutExecutor {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${finsight.fan-out.max-parallel:1}")
+    private int maxParallel;
+
+    /**
+     * Apply the task to every item and return the results in item order
+     */
+    public <T, R> List<R> map(List<T> items, Function<T, R> task) {
+        List<R> results = new ArrayList<>(items.size());
+        if (maxParallel <= 1 || items.size() <= 1) {
+            for (T item : items) {
+                results.add(task.apply(item));
+            }
+            return results;
+        }
+
+        Function<T, R> work = readOnlyLike(task);
+        Semaphore permits = new Semaphore(maxParallel);
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                permits.acquire();
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return work.apply(item);
+                    } finally {
+                        permits.release();
+                    }
+                }, taskExecutor));
+            }
+            for (CompletableFuture<R> future : futures) {
+                results.add(future.join());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new RuntimeException("Interrupted while waiting for parallel lookups", e);
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Wrap the task in a read-only transaction named like the caller's, if the caller is in one
+     */
+    private <T, R> Function<T, R> readOnlyLike(Function<T, R> task) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return task;
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setName(TransactionSynchronizationManager.getCurrentTransactionName());
+        return item -> template.execute(status -> task.apply(item));
+    }
+}
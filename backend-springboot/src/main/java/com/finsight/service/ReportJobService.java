@@ -0,0 +1,416 @@
+package com.finsight.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.dto.ReportJobDTO;
+import com.finsight.dto.ReportJobRequestDTO;
+import com.finsight.dto.ReportType;
+import com.finsight.entity.RequestSummary;
+import com.finsight.entity.User;
+import com.finsight.entity.UserRole;
+import com.finsight.repository.RequestSummaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Report Job Service
+ * Runs heavy reports (statistics, ticket exports) as background jobs so they do not hold a
+ * Tomcat thread, and the browser can poll for progress and download the file when it is ready
+ *
+ * - finsight.reports.workers threads run jobs; up to finsight.reports.queue-capacity more wait,
+ *   beyond that submit fails with "Report queue is full"
+ * - Ticket exports read finsight.reports.chunk-size rows at a time (keyset by request ID), each
+ *   chunk in its own read-only transaction, so no connection is held for the whole export
+ * - Results are files in finsight.reports.dir, deleted with their job finsight.reports.retention-hours
+ *   after completion (checked every finsight.reports.purge-interval-ms); job state is in memory,
+ *   so leftover files are removed at startup
+ *
+ * Jobs are timed as finsight.report.jobs (type and outcome tags)
+ *
+ * @author Mukund Kute
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobService.class);
+
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private static final String EXPORT_HEADER = "requestId,title,requestType,priority,status,accountId,createdBy,"
+        + "assignedTo,assignedBy,createdAt,assignedAt,eta,updatedAt";
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestSummaryRepository requestSummaryRepository;
+
+    @Autowired
+    private CallerContext callerContext;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${finsight.reports.dir:${java.io.tmpdir}/finsight-reports}")
+    private String reportsDir;
+
+    @Value("${finsight.reports.workers:2}")
+    private int workers;
+
+    @Value("${finsight.reports.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${finsight.reports.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${finsight.reports.retention-hours:24}")
+    private long retentionHours;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    private Path directory;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() throws IOException {
+        directory = Paths.get(reportsDir).toAbsolutePath();
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory, "report-*")) {
+            for (Path file : leftovers) {
+                Files.deleteIfExists(file);
+            }
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "report-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue a report for the caller; permissions are checked now, the work runs later
+     */
+    public ReportJobDTO submit(ReportJobRequestDTO request, String requestedBy) {
+        User user = callerContext.requireUser(requestedBy);
+        if (request.getType() == null) {
+            throw new RuntimeException("Report type is required");
+        }
+
+        Job job = new Job(request.getType(), user.getNtid());
+        if (request.getType() == ReportType.USER_STATISTICS) {
+            job.accountIds = request.getAccountId() != null ? List.of(request.getAccountId()) : null;
+        } else if (request.getType() == ReportType.TICKET_EXPORT) {
+            job.accountIds = exportableAccountIds(user, request.getAccountIds());
+        }
+
+        purgeExpired();
+        jobs.put(job.jobId, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId);
+            throw new IllegalStateException("Report queue is full, please retry later");
+        }
+        logger.info("Report job {} ({}) queued by {}", job.jobId, job.type, job.requestedBy);
+        return job.toDTO();
+    }
+
+    public ReportJobDTO getJob(String jobId, String requestedBy) {
+        return findOwnJob(jobId, requestedBy).toDTO();
+    }
+
+    /**
+     * The caller's jobs, newest first
+     */
+    public List<ReportJobDTO> getJobs(String requestedBy) {
+        User user = callerContext.requireUser(requestedBy);
+        purgeExpired();
+        return jobs.values().stream()
+            .filter(job -> job.requestedBy.equals(user.getNtid()))
+            .sorted(Comparator.comparing((Job job) -> job.submittedAt).reversed())
+            .map(Job::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Result file of a completed job
+     */
+    public Path getResultFile(String jobId, String requestedBy) {
+        Job job = findOwnJob(jobId, requestedBy);
+        if (job.status != ReportJobDTO.Status.COMPLETED) {
+            throw new IllegalStateException("Report is not ready (status " + job.status + ")");
+        }
+        return job.file;
+    }
+
+    /**
+     * ADMIN: the requested accounts (default all); SCRUM_MASTER: requested accounts among those
+     * they handle (default all of them); MANAGER: their own account
+     */
+    private List<Long> exportableAccountIds(User user, List<Long> requested) {
+        if (user.getRole() == UserRole.ADMIN) {
+            return requested == null || requested.isEmpty() ? null : List.copyOf(requested);
+        }
+        List<Long> allowed;
+        if (user.getRole() == UserRole.SCRUM_MASTER) {
+            allowed = callerContext.handledAccountIds(user);
+        } else if (user.getRole() == UserRole.MANAGER && user.getAccountId() != null) {
+            allowed = List.of(user.getAccountId());
+        } else {
+            throw new RuntimeException("Only ADMIN, SCRUM_MASTER or MANAGER can export tickets");
+        }
+        if (requested == null || requested.isEmpty()) {
+            return List.copyOf(allowed);
+        }
+        if (!allowed.containsAll(requested)) {
+            throw new RuntimeException("You can only export tickets of accounts you handle: " + allowed);
+        }
+        return List.copyOf(requested);
+    }
+
+    private Job findOwnJob(String jobId, String requestedBy) {
+        User user = callerContext.requireUser(requestedBy);
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Report job not found: " + jobId);
+        }
+        if (!job.requestedBy.equals(user.getNtid()) && user.getRole() != UserRole.ADMIN) {
+            throw new RuntimeException("Only the requester or an ADMIN can access this report job");
+        }
+        return job;
+    }
+
+    private void run(Job job) {
+        job.startedAt = LocalDateTime.now();
+        job.status = ReportJobDTO.Status.RUNNING;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String extension = job.type == ReportType.TICKET_EXPORT ? ".csv" : ".json";
+        Path partial = directory.resolve("report-" + job.jobId + extension + PARTIAL_SUFFIX);
+        String outcome = "failed";
+        try {
+            try (OutputStream out = Files.newOutputStream(partial)) {
+                switch (job.type) {
+                    case ACCOUNT_STATISTICS:
+                        writeJson(job, out, requestService.getAccountStatistics());
+                        break;
+                    case USER_STATISTICS:
+                        writeJson(job, out, job.accountIds != null
+                            ? requestService.getUserStatisticsByAccount(job.accountIds.get(0))
+                            : requestService.getUserTicketStatistics(job.requestedBy));
+                        break;
+                    case TICKET_EXPORT:
+                        writeTicketExport(job, out);
+                        break;
+                }
+            }
+            Path file = directory.resolve("report-" + job.jobId + extension);
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+            job.file = file;
+            job.sizeBytes = Files.size(file);
+            job.status = ReportJobDTO.Status.COMPLETED;
+            outcome = "completed";
+            logger.info("Report job {} ({}) completed: {} rows, {} bytes", job.jobId, job.type, job.processed.get(), job.sizeBytes);
+        } catch (Exception e) {
+            logger.error("Report job {} ({}) failed", job.jobId, job.type, e);
+            job.error = e.getMessage();
+            job.status = ReportJobDTO.Status.FAILED;
+            deleteQuietly(partial);
+        } finally {
+            job.completedAt = LocalDateTime.now();
+            sample.stop(meterRegistry.timer("finsight.report.jobs", "type", job.type.name(), "outcome", outcome));
+        }
+    }
+
+    private void writeJson(Job job, OutputStream out, List<?> rows) throws IOException {
+        job.total = (long) rows.size();
+        objectMapper.writeValue(out, rows);
+        job.processed.set(rows.size());
+    }
+
+    /**
+     * CSV of the active tickets of job.accountIds (null: all), read chunk by chunk
+     */
+    private void writeTicketExport(Job job, OutputStream out) throws IOException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setName(ReportJobService.class.getName() + ".writeTicketExport");
+
+        job.total = readOnly.execute(status -> job.accountIds == null
+            ? requestSummaryRepository.countByActiveTrue()
+            : job.accountIds.stream().mapToLong(requestSummaryRepository::countByAccountIdAndActiveTrue).sum());
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(EXPORT_HEADER);
+        writer.newLine();
+        List<Long> accounts = job.accountIds == null ? Collections.singletonList(null) : job.accountIds;
+        for (Long accountId : accounts) {
+            long afterId = 0;
+            List<RequestSummary> chunk;
+            do {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IllegalStateException("Report job interrupted");
+                }
+                long after = afterId;
+                PageRequest page = PageRequest.of(0, chunkSize);
+                chunk = readOnly.execute(status -> accountId == null
+                    ? requestSummaryRepository.findActiveAfter(after, page)
+                    : requestSummaryRepository.findActiveByAccountAfter(accountId, after, page));
+                for (RequestSummary r : chunk) {
+                    writer.write(csvRow(r));
+                    writer.newLine();
+                    afterId = r.getRequestId();
+                }
+                job.processed.addAndGet(chunk.size());
+            } while (chunk.size() == chunkSize);
+        }
+        writer.flush();
+    }
+
+    private static String csvRow(RequestSummary r) {
+        return String.join(",", String.valueOf(r.getRequestId()), csv(r.getTitle()), csv(r.getRequestType()),
+            csv(r.getPriority()), csv(r.getStatus()), csv(r.getAccountId()), csv(r.getCreatedBy()), csv(r.getAssignedTo()),
+            csv(r.getAssignedBy()), csv(r.getCreatedAt()), csv(r.getAssignedAt()), csv(r.getEta()), csv(r.getUpdatedAt()));
+    }
+
+    /**
+     * Quote a CSV field when needed; text starting like a formula is prefixed with ' so
+     * spreadsheets show it instead of evaluating it
+     */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    /**
+     * Purge even when nobody submits or lists jobs, so old files do not pile up on an idle instance
+     */
+    @Scheduled(fixedDelayString = "${finsight.reports.purge-interval-ms:900000}")
+    public void purgeOnSchedule() {
+        purgeExpired();
+    }
+
+    /**
+     * Drop jobs (and their files) completed more than retention-hours ago
+     */
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofHours(retentionHours));
+        List<Job> expired = new ArrayList<>();
+        for (Job job : jobs.values()) {
+            if (job.completedAt != null && job.completedAt.isBefore(cutoff)) {
+                expired.add(job);
+            }
+        }
+        for (Job job : expired) {
+            jobs.remove(job.jobId);
+            if (job.file != null) {
+                deleteQuietly(job.file);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete report file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static class Job {
+        private final String jobId = UUID.randomUUID().toString();
+        private final ReportType type;
+        private final String requestedBy;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private List<Long> accountIds;
+        private volatile ReportJobDTO.Status status = ReportJobDTO.Status.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile Long total;
+        private volatile String error;
+        private volatile Path file;
+        private volatile Long sizeBytes;
+
+        private Job(ReportType type, String requestedBy) {
+            this.type = type;
+            this.requestedBy = requestedBy;
+        }
+
+        private ReportJobDTO toDTO() {
+            ReportJobDTO dto = new ReportJobDTO();
+            dto.setJobId(jobId);
+            dto.setType(type);
+            dto.setStatus(status);
+            dto.setRequestedBy(requestedBy);
+            dto.setSubmittedAt(submittedAt);
+            dto.setStartedAt(startedAt);
+            dto.setCompletedAt(completedAt);
+            dto.setProcessed(processed.get());
+            dto.setTotal(total);
+            dto.setError(error);
+            dto.setFileName(file != null ? file.getFileName().toString() : null);
+            dto.setSizeBytes(sizeBytes);
+            return dto;
+        }
+    }
+}
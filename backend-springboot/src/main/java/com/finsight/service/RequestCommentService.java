@@ -1,17 +1,26 @@
 package com.finsight.service;
 
+import com.finsight.dto.CommentActivityDTO;
 import com.finsight.dto.CommentDTO;
 import com.finsight.dto.CreateCommentDTO;
+import com.finsight.entity.ArchivedRequestComment;
 import com.finsight.entity.RequestComment;
+import com.finsight.repository.ArchivedRequestCommentRepository;
 import com.finsight.repository.RequestCommentRepository;
 import com.finsight.repository.RequestRepository;
-import com.finsight.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -22,25 +31,84 @@ import java.util.stream.Collectors;
 @Service
 public class RequestCommentService {
 
+    // Oracle limits IN lists to 1000 expressions
+    private static final int MAX_IN_LIST_SIZE = 1000;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private RequestCommentRepository commentRepository;
 
+    @Autowired
+    private ArchivedRequestCommentRepository archivedCommentRepository;
+
     @Autowired
     private RequestRepository requestRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private CallerContext callerContext;
+
+    @Autowired
+    private RequestSearchService searchService;
 
     /**
      * Get all comments for a request
+     * Falls back to the archive when the hot table has none (the ticket may have been archived)
      */
     public List<CommentDTO> getCommentsByRequestId(Long requestId) {
         List<RequestComment> comments = commentRepository.findByRequestIdAndActiveTrueOrderByCommentedAtAsc(requestId);
+        if (comments.isEmpty()) {
+            return archivedCommentRepository.findByRequestIdAndActiveTrueOrderByCommentedAtAsc(requestId).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        }
         return comments.stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Get one page of comments for a request (oldest first), from the archive when the hot table has none
+     */
+    public Page<CommentDTO> getCommentsByRequestId(Long requestId, int page, int size) {
+        if (page < 0) {
+            throw new RuntimeException("Page index must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RuntimeException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Page<RequestComment> comments = commentRepository.findPageByRequestId(requestId, PageRequest.of(page, size));
+        if (comments.getTotalElements() == 0) {
+            return archivedCommentRepository.findPageByRequestId(requestId, PageRequest.of(page, size))
+                .map(this::convertToDTO);
+        }
+        return comments.map(this::convertToDTO);
+    }
+
+    /**
+     * Get comment count and latest comment timestamp for a set of requests
+     * Requests without comments are returned with a count of 0
+     */
+    public Map<Long, CommentActivityDTO> getCommentActivity(Collection<Long> requestIds) {
+        Map<Long, CommentActivityDTO> activity = new HashMap<>();
+        if (requestIds == null || requestIds.isEmpty()) {
+            return activity;
+        }
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(requestIds));
+        for (int from = 0; from < distinctIds.size(); from += MAX_IN_LIST_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinctIds.size()));
+            for (CommentActivityDTO dto : commentRepository.findCommentActivityByRequestIds(chunk)) {
+                activity.put(dto.getRequestId(), dto);
+            }
+        }
+
+        for (Long requestId : distinctIds) {
+            activity.putIfAbsent(requestId, new CommentActivityDTO(requestId, 0L, null));
+        }
+        return activity;
+    }
+
     /**
      * Add a comment to a request
      */
@@ -51,12 +119,16 @@ public class RequestCommentService {
             .orElseThrow(() -> new RuntimeException("Request not found"));
 
         // Verify user exists
-        userRepository.findByNtid(commentedBy)
+        callerContext.findUser(commentedBy)
             .orElseThrow(() -> new RuntimeException("User not found"));
 
         // All users can comment on all tickets (view restriction removed)
         // No permission check needed - all authenticated users can comment
 
+        if (createDTO.getCommentText() == null || createDTO.getCommentText().trim().isEmpty()) {
+            throw new RuntimeException("Comment text is required");
+        }
+
         RequestComment comment = new RequestComment();
         comment.setRequestId(requestId);
         comment.setCommentText(createDTO.getCommentText());
@@ -66,6 +138,7 @@ public class RequestCommentService {
         comment.setActive(true);
 
         RequestComment savedComment = commentRepository.save(comment);
+        searchService.indexComment(savedComment);
         return convertToDTO(savedComment);
     }
 
@@ -98,6 +171,7 @@ public class RequestCommentService {
         comment.setActive(true);
 
         RequestComment savedComment = commentRepository.save(comment);
+        searchService.indexComment(savedComment);
         return convertToDTO(savedComment);
     }
 
@@ -117,4 +191,18 @@ public class RequestCommentService {
             comment.getChangeReason()
         );
     }
+
+    private CommentDTO convertToDTO(ArchivedRequestComment comment) {
+        return new CommentDTO(
+            comment.getCommentId(),
+            comment.getRequestId(),
+            comment.getCommentText(),
+            comment.getCommentedBy(),
+            comment.getCommentedAt(),
+            comment.getIsEtaChange(),
+            comment.getOldEta(),
+            comment.getNewEta(),
+            comment.getChangeReason()
+        );
+    }
 }
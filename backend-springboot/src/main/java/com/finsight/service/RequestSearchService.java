@@ -0,0 +1,538 @@
+package com.finsight.service;
+
+import com.finsight.dto.SearchHitDTO;
+import com.finsight.entity.Request;
+import com.finsight.entity.RequestComment;
+import com.finsight.entity.RequestPriority;
+import com.finsight.entity.RequestStatus;
+import com.finsight.entity.RequestType;
+import com.finsight.entity.RequestView;
+import com.finsight.entity.User;
+import com.finsight.entity.UserRole;
+import com.finsight.repository.RequestCommentRepository;
+import com.finsight.repository.RequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Request Search Service
+ * In-memory inverted index over request titles, descriptions and comment text.
+ *
+ * The index is built in the background once the application is ready and is then
+ * kept current by the request and comment write paths (applied after commit; changes
+ * committed while the index is being built are held and applied once it finishes).
+ * Queries never touch the database apart from resolving the caller's visibility.
+ *
+ * @author Mukund Kute
+ */
+@Service
+public class RequestSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestSearchService.class);
+
+    private static final double TITLE_WEIGHT = 3.0;
+
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    private static final double COMMENT_WEIGHT = 0.5;
+
+    // Upper bound on index terms a single prefix token may expand to
+    private static final int MAX_PREFIX_EXPANSIONS = 200;
+
+    private static final int MAX_RESULTS = 100;
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from",
+        "in", "is", "it", "of", "on", "or", "the", "to", "was", "with"
+    );
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestCommentRepository commentRepository;
+
+    @Autowired
+    private CallerContext callerContext;
+
+    // Lazy: RequestService depends on this service to keep the index current
+    @Lazy
+    @Autowired
+    private RequestService requestService;
+
+    // term -> (requestId -> weighted term frequency), sorted so prefix queries are a range scan
+    private final TreeMap<String, Map<Long, Double>> postings = new TreeMap<>();
+
+    private final Map<Long, IndexedRequest> documents = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready = false;
+
+    // While a build runs, committed changes wait here (guarded by the write lock) and are applied after
+    // it, so the build's older page reads cannot overwrite them or bring back removed tickets
+    private boolean building = false;
+
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+
+    /**
+     * Build the index on the application task executor so startup does not wait on it
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexOnStartup() {
+        rebuildIndex();
+    }
+
+    /**
+     * Load all active requests and comments page by page into the index
+     */
+    public void rebuildIndex() {
+        logger.debug("Building search index...");
+        long startTime = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            building = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            int pageNumber = 0;
+            Page<Request> requestPage;
+            do {
+                requestPage = requestRepository.findAll(
+                    PageRequest.of(pageNumber++, LOAD_PAGE_SIZE, Sort.by("requestId")));
+                for (Request request : requestPage.getContent()) {
+                    if (Boolean.TRUE.equals(request.getActive())) {
+                        putDocument(IndexedRequest.from(request));
+                    }
+                }
+            } while (requestPage.hasNext());
+
+            pageNumber = 0;
+            Page<RequestComment> commentPage;
+            do {
+                commentPage = commentRepository.findAll(
+                    PageRequest.of(pageNumber++, LOAD_PAGE_SIZE, Sort.by("commentId")));
+                for (RequestComment comment : commentPage.getContent()) {
+                    if (Boolean.TRUE.equals(comment.getActive())) {
+                        addComment(comment.getRequestId(), comment.getCommentId(), comment.getCommentText());
+                    }
+                }
+            } while (commentPage.hasNext());
+
+            ready = true;
+            logger.info("Search index built: {} requests, {} terms in {} ms", documents.size(), postings.size(), (System.currentTimeMillis() - startTime));
+        } catch (Exception e) {
+            logger.error("Failed to build search index", e);
+        } finally {
+            replayPendingChanges();
+        }
+    }
+
+    private void replayPendingChanges() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(Runnable::run);
+            logger.debug("Applied {} changes committed during the index build", pendingChanges.size());
+            pendingChanges.clear();
+            building = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed change now, or after the running build
+     */
+    private void applyChange(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                pendingChanges.add(change);
+            } else {
+                change.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Index (or re-index) a request after the current transaction commits
+     * Inactive requests are removed from the index
+     */
+    public void indexRequest(Request request) {
+        if (!Boolean.TRUE.equals(request.getActive())) {
+            removeRequest(request.getRequestId());
+            return;
+        }
+        // Snapshot now - the entity may change again before commit
+        IndexedRequest document = IndexedRequest.from(request);
+        afterCommit(() -> applyChange(() -> putDocument(document)));
+    }
+
+    /**
+     * Remove a request from the index after the current transaction commits
+     */
+    public void removeRequest(Long requestId) {
+        afterCommit(() -> applyChange(() -> {
+            IndexedRequest existing = documents.remove(requestId);
+            if (existing != null) {
+                removePostings(existing);
+            }
+        }));
+    }
+
+    /**
+     * Add a comment's text to its request's index entry after the current transaction commits
+     */
+    public void indexComment(RequestComment comment) {
+        Long requestId = comment.getRequestId();
+        Long commentId = comment.getCommentId();
+        String text = comment.getCommentText();
+        afterCommit(() -> applyChange(() -> addComment(requestId, commentId, text)));
+    }
+
+    /**
+     * Search tickets visible to the user
+     * All query tokens must match; the last token is treated as a prefix (search-as-you-type).
+     * Matches are ranked by field-weighted term frequency times inverse document frequency.
+     */
+    public List<SearchHitDTO> search(String query, String userNtid, int limit) {
+        List<String> tokens = tokenize(query, true);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_RESULTS));
+        Predicate<IndexedRequest> visible = visibilityFilter(userNtid);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean prefix = i == tokens.size() - 1;
+                Map<Long, Double> tokenScores = scoreToken(tokens.get(i), prefix);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    Map<Long, Double> combined = new HashMap<>();
+                    for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                        Double tokenScore = tokenScores.get(entry.getKey());
+                        if (tokenScore != null) {
+                            combined.put(entry.getKey(), entry.getValue() + tokenScore);
+                        }
+                    }
+                    scores = combined;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<SearchHitDTO> hits = new ArrayList<>();
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                IndexedRequest document = documents.get(entry.getKey());
+                if (document != null && visible.test(document)) {
+                    hits.add(new SearchHitDTO(
+                        document.requestId,
+                        document.title,
+                        document.status,
+                        document.priority,
+                        document.accountId,
+                        document.assignedTo,
+                        entry.getValue()
+                    ));
+                }
+            }
+            hits.sort(Comparator.comparing(SearchHitDTO::getScore).reversed()
+                .thenComparing(SearchHitDTO::getRequestId, Comparator.reverseOrder()));
+            return hits.size() > maxResults ? new ArrayList<>(hits.subList(0, maxResults)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Score every document containing the token (or, for a prefix, any term starting with it)
+     * Caller must hold the read lock
+     */
+    private Map<Long, Double> scoreToken(String token, boolean prefix) {
+        Map<Long, Double> tokenScores = new HashMap<>();
+        int totalDocuments = Math.max(1, documents.size());
+
+        NavigableMap<String, Map<Long, Double>> matches = prefix
+            ? postings.subMap(token, true, token + Character.MAX_VALUE, false)
+            : postings.subMap(token, true, token, true);
+
+        int expansions = 0;
+        for (Map<Long, Double> posting : matches.values()) {
+            if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            double idf = Math.log(1.0 + (double) totalDocuments / posting.size());
+            for (Map.Entry<Long, Double> entry : posting.entrySet()) {
+                tokenScores.merge(entry.getKey(), entry.getValue() * idf, Math::max);
+            }
+        }
+        return tokenScores;
+    }
+
+    /**
+     * RequestService.isVisible for the caller, with their handled accounts looked up once per search
+     */
+    private Predicate<IndexedRequest> visibilityFilter(String userNtid) {
+        User user = callerContext.requireUser(userNtid);
+        List<Long> handledAccountIds = user.getRole() == UserRole.SCRUM_MASTER
+            ? callerContext.handledAccountIds(user)
+            : List.of();
+        return r -> requestService.isVisible(user, handledAccountIds, r);
+    }
+
+    private void putDocument(IndexedRequest document) {
+        lock.writeLock().lock();
+        try {
+            IndexedRequest existing = documents.get(document.requestId);
+            if (existing != null) {
+                removePostings(existing);
+                // Comment terms are indexed separately, keep them across request updates
+                document.commentTf.putAll(existing.commentTf);
+                document.commentIds.addAll(existing.commentIds);
+            }
+            documents.put(document.requestId, document);
+            addPostings(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addComment(Long requestId, Long commentId, String text) {
+        List<String> terms = tokenize(text, false);
+        lock.writeLock().lock();
+        try {
+            IndexedRequest document = documents.get(requestId);
+            if (document == null || !document.commentIds.add(commentId)) {
+                return;
+            }
+            removePostings(document);
+            for (String term : terms) {
+                document.commentTf.merge(term, 1, Integer::sum);
+            }
+            addPostings(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addPostings(IndexedRequest document) {
+        for (String term : document.terms()) {
+            postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.requestId, document.weight(term));
+        }
+    }
+
+    private void removePostings(IndexedRequest document) {
+        for (String term : document.terms()) {
+            Map<Long, Double> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(document.requestId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Lower-case, split on anything that is not a letter or digit, drop stop words
+     * Queries keep one-character tokens so the first keystroke already matches as a prefix
+     */
+    static List<String> tokenize(String text, boolean isQuery) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase().split("[^\\p{L}\\p{Nd}]+")) {
+            if (token.isEmpty() || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            if (token.length() < 2 && !isQuery && !Character.isDigit(token.charAt(0))) {
+                continue;
+            }
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(text, false)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * Indexed copy of an active ticket; only the fields search hits and visibility read are kept,
+     * the other RequestView getters return null
+     */
+    private static class IndexedRequest implements RequestView {
+        private Long requestId;
+        private String title;
+        private RequestStatus status;
+        private RequestPriority priority;
+        private Long accountId;
+        private String createdBy;
+        private String assignedTo;
+        private Map<String, Integer> titleTf;
+        private Map<String, Integer> descriptionTf;
+        private final Map<String, Integer> commentTf = new HashMap<>();
+        private final Set<Long> commentIds = new HashSet<>();
+
+        private static IndexedRequest from(Request request) {
+            IndexedRequest document = new IndexedRequest();
+            document.requestId = request.getRequestId();
+            document.title = request.getTitle();
+            document.status = request.getStatus();
+            document.priority = request.getPriority();
+            document.accountId = request.getAccountId();
+            document.createdBy = request.getCreatedBy();
+            document.assignedTo = request.getAssignedTo();
+            document.titleTf = termFrequencies(request.getTitle());
+            document.descriptionTf = termFrequencies(request.getDescription());
+            return document;
+        }
+
+        private Set<String> terms() {
+            Set<String> terms = new HashSet<>(titleTf.keySet());
+            terms.addAll(descriptionTf.keySet());
+            terms.addAll(commentTf.keySet());
+            return terms;
+        }
+
+        private double weight(String term) {
+            return TITLE_WEIGHT * dampen(titleTf.getOrDefault(term, 0))
+                + DESCRIPTION_WEIGHT * dampen(descriptionTf.getOrDefault(term, 0))
+                + COMMENT_WEIGHT * dampen(commentTf.getOrDefault(term, 0));
+        }
+
+        // Sub-linear term frequency so long descriptions do not drown out title matches
+        private static double dampen(int count) {
+            return count == 0 ? 0.0 : 1.0 + Math.log(count);
+        }
+
+        @Override
+        public Long getRequestId() {
+            return requestId;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public RequestType getRequestType() {
+            return null;
+        }
+
+        @Override
+        public RequestPriority getPriority() {
+            return priority;
+        }
+
+        @Override
+        public RequestStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public String getCreatedBy() {
+            return createdBy;
+        }
+
+        @Override
+        public String getAssignedTo() {
+            return assignedTo;
+        }
+
+        @Override
+        public String getAssignedBy() {
+            return null;
+        }
+
+        @Override
+        public Long getAccountId() {
+            return accountId;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return null;
+        }
+
+        @Override
+        public LocalDateTime getUpdatedAt() {
+            return null;
+        }
+
+        @Override
+        public LocalDateTime getAssignedAt() {
+            return null;
+        }
+
+        @Override
+        public LocalDateTime getEta() {
+            return null;
+        }
+
+        @Override
+        public Boolean getActive() {
+            // Only active tickets are indexed
+            return Boolean.TRUE;
+        }
+    }
+}
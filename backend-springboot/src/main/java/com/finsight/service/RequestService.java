@@ -2,16 +2,26 @@ package com.finsight.service;
 
 import com.finsight.dto.AssignRequestDTO;
 import com.finsight.dto.CreateRequestDTO;
+import com.finsight.dto.EtaAlertDTO;
 import com.finsight.dto.UpdateRequestDTO;
 import com.finsight.dto.UpdateStatusDTO;
+import com.finsight.entity.ArchivedRequest;
 import com.finsight.entity.Request;
 import com.finsight.entity.RequestPriority;
 import com.finsight.entity.RequestStatus;
+import com.finsight.entity.RequestSummary;
 import com.finsight.entity.RequestType;
+import com.finsight.entity.RequestView;
 import com.finsight.entity.User;
 import com.finsight.entity.UserRole;
+import com.finsight.repository.ArchivedRequestRepository;
+import com.finsight.repository.RequestQueries;
 import com.finsight.repository.RequestRepository;
+import com.finsight.repository.RequestSummaryRepository;
 import com.finsight.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,15 +32,27 @@ import java.util.stream.Collectors;
 
 /**
  * Request Service
+ * Every public method is timed as finsight.request.service (tagged by method)
+ * Reporting methods are read-only transactions and use the read replica when one is configured;
+ * concurrent identical report calls share one execution (@Coalesced)
  * 
  * @author Mukund Kute
  */
 @Service
+@Timed(value = "finsight.request.service", description = "Time spent in RequestService methods", histogram = true)
 public class RequestService {
 
+    private static final Logger logger = LoggerFactory.getLogger(RequestService.class);
+
     @Autowired
     private RequestRepository requestRepository;
 
+    @Autowired
+    private RequestSummaryRepository requestSummaryRepository;
+
+    @Autowired
+    private ArchivedRequestRepository archivedRequestRepository;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -43,13 +65,25 @@ public class RequestService {
     @Autowired
     private RequestCommentService commentService;
 
+    @Autowired
+    private RequestSearchService searchService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private FanOutExecutor fanOut;
+
+    @Autowired
+    private CallerContext callerContext;
+
     /**
      * Create new request
      */
     @Transactional
     public Request createRequest(CreateRequestDTO createDTO, String createdBy) {
-        System.out.println("  [RequestService] createRequest() called");
-        System.out.println("  [RequestService] Created by: " + createdBy);
+        logger.debug("createRequest() called");
+        logger.debug("Created by: {}", createdBy);
 
         // Validate accountId is provided
         if (createDTO.getAccountId() == null) {
@@ -57,8 +91,7 @@ public class RequestService {
         }
 
         // Verify user exists
-        userRepository.findByNtid(createdBy)
-            .orElseThrow(() -> new RuntimeException("User not found: " + createdBy));
+        callerContext.requireUser(createdBy);
 
         Long accountId = createDTO.getAccountId();
 
@@ -72,7 +105,9 @@ public class RequestService {
         );
 
         Request savedRequest = requestRepository.save(request);
-        System.out.println("  [RequestService] Request created with ID: " + savedRequest.getRequestId());
+        searchService.indexRequest(savedRequest);
+        boardService.publish(savedRequest);
+        logger.info("Request created with ID: {}", savedRequest.getRequestId());
         return savedRequest;
     }
 
@@ -80,26 +115,41 @@ public class RequestService {
      * Get requests based on user role
      */
     public List<Request> getRequests(String userNtid, RequestStatus status, RequestPriority priority, RequestType requestType, Long accountId) {
-        System.out.println("  [RequestService] getRequests() called");
-        System.out.println("  [RequestService] User NTID: " + userNtid);
+        logger.debug("getRequests() called");
+        return findVisibleRequests(userNtid, status, priority, requestType, accountId, requestRepository);
+    }
+
+    /**
+     * Same tickets as getRequests, loaded without the DESCRIPTION column
+     */
+    public List<RequestSummary> getRequestSummaries(String userNtid, RequestStatus status, RequestPriority priority, RequestType requestType, Long accountId) {
+        logger.debug("getRequestSummaries() called");
+        return findVisibleRequests(userNtid, status, priority, requestType, accountId, requestSummaryRepository);
+    }
 
-        User user = userRepository.findByNtid(userNtid)
-            .orElseThrow(() -> new RuntimeException("User not found: " + userNtid));
+    /**
+     * Role-based ticket visibility, run against either the full or the summary queries
+     */
+    private <T extends RequestView> List<T> findVisibleRequests(String userNtid, RequestStatus status, RequestPriority priority,
+                                                                RequestType requestType, Long accountId, RequestQueries<T> queries) {
+        logger.debug("User NTID: {}", userNtid);
+
+        User user = callerContext.requireUser(userNtid);
 
         UserRole role = user.getRole();
-        System.out.println("  [RequestService] User role: " + role);
+        logger.debug("User role: {}", role);
 
-        List<Request> requests;
+        List<T> requests;
 
         if (role == UserRole.ADMIN) {
             // ADMIN can see all requests
             if (status == RequestStatus.ASSIGNED) {
                 // When requesting ASSIGNED, return all tickets that have been assigned (regardless of current status)
-                requests = requestRepository.findAllAssignedTicketsOrderByCreatedAtDesc();
+                requests = queries.findAllAssignedTicketsOrderByCreatedAtDesc();
             } else if (status != null || priority != null || requestType != null || accountId != null) {
-                requests = requestRepository.findWithFilters(status, priority, requestType, accountId);
+                requests = queries.findWithFilters(status, priority, requestType, accountId);
             } else {
-                requests = requestRepository.findByActiveTrueOrderByCreatedAtDesc();
+                requests = queries.findByActiveTrueOrderByCreatedAtDesc();
             }
         } else if (role == UserRole.SCRUM_MASTER) {
             // SCRUM_MASTER can see:
@@ -108,54 +158,45 @@ public class RequestService {
             // 3. Tickets assigned to them personally (regardless of account)
             // 4. Tickets from accounts they handle (when status is null or other statuses)
             
-            List<Long> junctionAccountIds = userAccountRepository.findAccountIdsByNtid(userNtid);
-            List<Long> handledAccountIds;
+            List<Long> handledAccountIds = callerContext.handledAccountIds(user);
             
-            // If no accounts in junction table, check user's accountId from FLOWAI_USERS
-            if (junctionAccountIds.isEmpty() && user.getAccountId() != null) {
-                System.out.println("  [RequestService] SCRUM_MASTER has no accounts in junction table, using accountId from user table: " + user.getAccountId());
-                handledAccountIds = List.of(user.getAccountId());
-            } else {
-                handledAccountIds = junctionAccountIds;
-            }
-            
-            System.out.println("  [RequestService] SCRUM_MASTER handles " + handledAccountIds.size() + " accounts: " + handledAccountIds);
+            logger.debug("SCRUM_MASTER handles {} accounts: {}", handledAccountIds.size(), handledAccountIds);
             
             if (status == RequestStatus.OPEN) {
                 // SCRUM_MASTER can see ALL OPEN tickets (for assignment purposes)
-                requests = requestRepository.findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus.OPEN);
-                System.out.println("  [RequestService] SCRUM_MASTER sees " + requests.size() + " OPEN requests (all open tickets)");
+                requests = queries.findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus.OPEN);
+                logger.debug("SCRUM_MASTER sees {} OPEN requests (all open tickets)", requests.size());
             } else if (status == RequestStatus.ASSIGNED) {
                 // SCRUM_MASTER can see ALL assigned tickets (to see what's been assigned)
-                requests = requestRepository.findAllAssignedTicketsOrderByCreatedAtDesc();
-                System.out.println("  [RequestService] SCRUM_MASTER sees " + requests.size() + " ASSIGNED requests (all assigned tickets)");
+                requests = queries.findAllAssignedTicketsOrderByCreatedAtDesc();
+                logger.debug("SCRUM_MASTER sees {} ASSIGNED requests (all assigned tickets)", requests.size());
             } else if (status == null) {
                 // No status filter - get tickets from handled accounts AND tickets assigned to SCRUM_MASTER
-                List<Request> allRequests = requestRepository.findByActiveTrueOrderByCreatedAtDesc();
-                System.out.println("  [RequestService] Total active requests in system: " + allRequests.size());
+                List<T> allRequests = queries.findByActiveTrueOrderByCreatedAtDesc();
+                logger.debug("Total active requests in system: {}", allRequests.size());
                 
                 requests = allRequests.stream()
                     .filter(r -> {
                         // Include if: assigned to SCRUM_MASTER OR from handled accounts
-                        boolean assignedToMe = r.getAssignedTo() != null && r.getAssignedTo().equalsIgnoreCase(userNtid);
+                        boolean assignedToMe = user.getNtid().equals(r.getAssignedTo());
                         boolean fromHandledAccount = r.getAccountId() != null && handledAccountIds.contains(r.getAccountId());
                         return assignedToMe || fromHandledAccount;
                     })
                     .collect(Collectors.toList());
-                System.out.println("  [RequestService] Filtered to " + requests.size() + " requests (assigned to SCRUM_MASTER or from handled accounts)");
+                logger.debug("Filtered to {} requests (assigned to SCRUM_MASTER or from handled accounts)", requests.size());
             } else {
                 // For other specific statuses, get tickets from handled accounts AND tickets assigned to SCRUM_MASTER
-                List<Request> allRequests = requestRepository.findByActiveTrueOrderByCreatedAtDesc();
+                List<T> allRequests = queries.findByActiveTrueOrderByCreatedAtDesc();
                 requests = allRequests.stream()
                     .filter(r -> r.getStatus() == status)
                     .filter(r -> {
                         // Include if: assigned to SCRUM_MASTER OR from handled accounts
-                        boolean assignedToMe = r.getAssignedTo() != null && r.getAssignedTo().equalsIgnoreCase(userNtid);
+                        boolean assignedToMe = user.getNtid().equals(r.getAssignedTo());
                         boolean fromHandledAccount = r.getAccountId() != null && handledAccountIds.contains(r.getAccountId());
                         return assignedToMe || fromHandledAccount;
                     })
                     .collect(Collectors.toList());
-                System.out.println("  [RequestService] Filtered to " + requests.size() + " " + status + " requests (assigned to SCRUM_MASTER or from handled accounts)");
+                logger.debug("Filtered to {} {} requests (assigned to SCRUM_MASTER or from handled accounts)", requests.size(), status);
             }
             
             // Apply additional filters
@@ -180,7 +221,7 @@ public class RequestService {
             if (managerAccountId == null) {
                 requests = List.of();
             } else {
-                requests = requestRepository.findByAccountIdAndActiveTrueOrderByCreatedAtDesc(managerAccountId);
+                requests = queries.findByAccountIdAndActiveTrueOrderByCreatedAtDesc(managerAccountId);
                 // Apply additional filters
                 if (status != null) {
                     requests = requests.stream()
@@ -204,34 +245,34 @@ public class RequestService {
             // 2. OPEN tickets (for viewing, but cannot update/delete unless they are the creator)
             if (status == RequestStatus.OPEN) {
                 // When specifically requesting OPEN tickets, show all OPEN tickets
-                requests = requestRepository.findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus.OPEN);
+                requests = queries.findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus.OPEN);
             } else if (status == RequestStatus.ASSIGNED) {
                 // When requesting ASSIGNED, show all tickets assigned to this developer (regardless of current status)
-                requests = requestRepository.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(userNtid);
+                requests = queries.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(user.getNtid());
             } else if (status != null) {
                 // For other specific statuses, show assigned requests with that status
-                requests = requestRepository.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(userNtid)
+                requests = queries.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(user.getNtid())
                     .stream()
                     .filter(r -> r.getStatus() == status)
                     .collect(Collectors.toList());
             } else {
                 // No status filter: show created requests + assigned requests + OPEN tickets
-                List<Request> createdRequests = requestRepository.findByCreatedByAndActiveTrueOrderByCreatedAtDesc(userNtid);
-                List<Request> assignedRequests = requestRepository.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(userNtid);
-                List<Request> openRequests = requestRepository.findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus.OPEN);
+                List<T> createdRequests = queries.findByCreatedByAndActiveTrueOrderByCreatedAtDesc(user.getNtid());
+                List<T> assignedRequests = queries.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(user.getNtid());
+                List<T> openRequests = queries.findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus.OPEN);
                 
-                System.out.println("  [RequestService] DEVELOPER - Found " + createdRequests.size() + " created requests for " + userNtid);
-                System.out.println("  [RequestService] DEVELOPER - Found " + assignedRequests.size() + " assigned requests for " + userNtid);
-                System.out.println("  [RequestService] DEVELOPER - Found " + openRequests.size() + " OPEN requests");
+                logger.debug("DEVELOPER - Found {} created requests for {}", createdRequests.size(), userNtid);
+                logger.debug("DEVELOPER - Found {} assigned requests for {}", assignedRequests.size(), userNtid);
+                logger.debug("DEVELOPER - Found {} OPEN requests", openRequests.size());
                 
                 // Combine and remove duplicates
                 requests = new java.util.ArrayList<>(createdRequests);
-                for (Request assignedReq : assignedRequests) {
+                for (T assignedReq : assignedRequests) {
                     if (requests.stream().noneMatch(r -> r.getRequestId().equals(assignedReq.getRequestId()))) {
                         requests.add(assignedReq);
                     }
                 }
-                for (Request openReq : openRequests) {
+                for (T openReq : openRequests) {
                     if (requests.stream().noneMatch(r -> r.getRequestId().equals(openReq.getRequestId()))) {
                         requests.add(openReq);
                     }
@@ -241,7 +282,7 @@ public class RequestService {
                     .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
                     .collect(Collectors.toList());
                 
-                System.out.println("  [RequestService] DEVELOPER - Total requests after combining: " + requests.size());
+                logger.debug("DEVELOPER - Total requests after combining: {}", requests.size());
             }
             
             // Apply additional filters
@@ -265,28 +306,54 @@ public class RequestService {
             // All users can view all tickets, but other restrictions (update, assign, etc.) remain
             if (status == RequestStatus.ASSIGNED) {
                 // When requesting ASSIGNED, return all tickets that have been assigned (regardless of current status)
-                requests = requestRepository.findAllAssignedTicketsOrderByCreatedAtDesc();
+                requests = queries.findAllAssignedTicketsOrderByCreatedAtDesc();
             } else if (status != null || priority != null || requestType != null || accountId != null) {
-                requests = requestRepository.findWithFilters(status, priority, requestType, accountId);
+                requests = queries.findWithFilters(status, priority, requestType, accountId);
             } else {
                 // No filters: show all active tickets
-                requests = requestRepository.findByActiveTrueOrderByCreatedAtDesc();
+                requests = queries.findByActiveTrueOrderByCreatedAtDesc();
             }
         }
 
-        System.out.println("  [RequestService] Found " + requests.size() + " requests");
+        logger.debug("Found {} requests", requests.size());
         return requests;
     }
 
+    /**
+     * Whether an active ticket is in the user's unfiltered getRequests list; handledAccountIds
+     * is callerContext.handledAccountIds(user), looked up once by the caller
+     */
+    public boolean isVisible(User user, List<Long> handledAccountIds, RequestView request) {
+        if (!Boolean.TRUE.equals(request.getActive())) {
+            return false;
+        }
+        switch (user.getRole()) {
+            case SCRUM_MASTER:
+                return user.getNtid().equals(request.getAssignedTo())
+                    || (request.getAccountId() != null && handledAccountIds.contains(request.getAccountId()));
+            case MANAGER:
+                return user.getAccountId() != null && user.getAccountId().equals(request.getAccountId());
+            case DEVELOPER:
+                return user.getNtid().equals(request.getCreatedBy())
+                    || user.getNtid().equals(request.getAssignedTo())
+                    || request.getStatus() == RequestStatus.OPEN;
+            default:
+                // ADMIN, USER and other roles see every active ticket
+                return true;
+        }
+    }
+
     /**
      * Get single request by ID
      */
     public Request getRequestById(Long requestId, String userNtid) {
-        System.out.println("  [RequestService] getRequestById() called");
-        System.out.println("  [RequestService] Request ID: " + requestId);
-        System.out.println("  [RequestService] User NTID: " + userNtid);
+        logger.debug("getRequestById() called");
+        logger.debug("Request ID: {}", requestId);
+        logger.debug("User NTID: {}", userNtid);
 
+        // Closed tickets may have been moved to the archive; they are read-only there
         Request request = requestRepository.findById(requestId)
+            .or(() -> archivedRequestRepository.findById(requestId).map(this::fromArchive))
             .orElseThrow(() -> new RuntimeException("Request not found: " + requestId));
 
         if (!request.getActive()) {
@@ -300,19 +367,41 @@ public class RequestService {
         return request;
     }
 
+    /**
+     * Detached copy of an archived ticket, for read responses only (never saved)
+     */
+    private Request fromArchive(ArchivedRequest archived) {
+        Request request = new Request();
+        request.setRequestId(archived.getRequestId());
+        request.setTitle(archived.getTitle());
+        request.setDescription(archived.getDescription());
+        request.setRequestType(archived.getRequestType());
+        request.setPriority(archived.getPriority());
+        request.setStatus(archived.getStatus());
+        request.setCreatedBy(archived.getCreatedBy());
+        request.setAssignedTo(archived.getAssignedTo());
+        request.setAccountId(archived.getAccountId());
+        request.setCreatedAt(archived.getCreatedAt());
+        request.setUpdatedAt(archived.getUpdatedAt());
+        request.setAssignedAt(archived.getAssignedAt());
+        request.setAssignedBy(archived.getAssignedBy());
+        request.setEta(archived.getEta());
+        request.setActive(archived.getActive());
+        return request;
+    }
+
     /**
      * Update request
      */
     @Transactional
     public Request updateRequest(Long requestId, UpdateRequestDTO updateDTO, String userNtid) {
-        System.out.println("  [RequestService] updateRequest() called");
-        System.out.println("  [RequestService] Request ID: " + requestId);
+        logger.debug("updateRequest() called");
+        logger.debug("Request ID: {}", requestId);
 
         Request request = requestRepository.findById(requestId)
             .orElseThrow(() -> new RuntimeException("Request not found: " + requestId));
 
-        User user = userRepository.findByNtid(userNtid)
-            .orElseThrow(() -> new RuntimeException("User not found: " + userNtid));
+        User user = callerContext.requireUser(userNtid);
 
         // Update permissions:
         // 1. ADMIN can always update
@@ -323,22 +412,15 @@ public class RequestService {
         
         if (user.getRole() == UserRole.ADMIN) {
             canUpdate = true;
-        } else if (userNtid.equals(request.getCreatedBy())) {
+        } else if (user.getNtid().equals(request.getCreatedBy())) {
             // Creator can update
             canUpdate = true;
-        } else if (userNtid.equals(request.getAssignedTo()) && request.getAssignedTo() != null) {
+        } else if (user.getNtid().equals(request.getAssignedTo())) {
             // Assigned user can update after assignment
             canUpdate = true;
         } else if (user.getRole() == UserRole.SCRUM_MASTER) {
             // SCRUM_MASTER can update tickets in their handled accounts
-            List<Long> junctionAccountIds = userAccountRepository.findAccountIdsByNtid(userNtid);
-            List<Long> handledAccountIds;
-            
-            if (junctionAccountIds.isEmpty() && user.getAccountId() != null) {
-                handledAccountIds = List.of(user.getAccountId());
-            } else {
-                handledAccountIds = junctionAccountIds;
-            }
+            List<Long> handledAccountIds = callerContext.handledAccountIds(user);
             
             if (request.getAccountId() != null && handledAccountIds.contains(request.getAccountId())) {
                 canUpdate = true;
@@ -362,7 +444,10 @@ public class RequestService {
             request.setPriority(updateDTO.getPriority());
         }
 
-        return requestRepository.save(request);
+        Request savedRequest = requestRepository.save(request);
+        searchService.indexRequest(savedRequest);
+        boardService.publish(savedRequest);
+        return savedRequest;
     }
 
     /**
@@ -370,15 +455,14 @@ public class RequestService {
      */
     @Transactional
     public Request assignRequest(Long requestId, AssignRequestDTO assignDTO, String assignedBy) {
-        System.out.println("  [RequestService] assignRequest() called");
-        System.out.println("  [RequestService] Request ID: " + requestId);
-        System.out.println("  [RequestService] Assigned by: " + assignedBy);
+        logger.debug("assignRequest() called");
+        logger.debug("Request ID: {}", requestId);
+        logger.debug("Assigned by: {}", assignedBy);
 
         Request request = requestRepository.findById(requestId)
             .orElseThrow(() -> new RuntimeException("Request not found: " + requestId));
 
-        User assigner = userRepository.findByNtid(assignedBy)
-            .orElseThrow(() -> new RuntimeException("User not found: " + assignedBy));
+        User assigner = callerContext.requireUser(assignedBy);
 
         // Only SCRUM_MASTER or ADMIN can assign
         if (assigner.getRole() != UserRole.SCRUM_MASTER && assigner.getRole() != UserRole.ADMIN) {
@@ -400,7 +484,10 @@ public class RequestService {
         request.setStatus(RequestStatus.ASSIGNED);
         request.setEta(assignDTO.getEta());
 
-        return requestRepository.save(request);
+        Request savedRequest = requestRepository.save(request);
+        searchService.indexRequest(savedRequest);
+        boardService.publish(savedRequest);
+        return savedRequest;
     }
 
     /**
@@ -408,21 +495,20 @@ public class RequestService {
      */
     @Transactional
     public Request updateEta(Long requestId, com.finsight.dto.UpdateEtaDTO updateEtaDTO, String userNtid) {
-        System.out.println("  [RequestService] updateEta() called");
-        System.out.println("  [RequestService] Request ID: " + requestId);
-        System.out.println("  [RequestService] Updated by: " + userNtid);
+        logger.debug("updateEta() called");
+        logger.debug("Request ID: {}", requestId);
+        logger.debug("Updated by: {}", userNtid);
 
         Request request = requestRepository.findById(requestId)
             .orElseThrow(() -> new RuntimeException("Request not found: " + requestId));
 
-        User user = userRepository.findByNtid(userNtid)
-            .orElseThrow(() -> new RuntimeException("User not found: " + userNtid));
+        User user = callerContext.requireUser(userNtid);
 
         // Check permissions: ADMIN, SCRUM_MASTER, or assigned user can update ETA
         boolean canUpdateEta = false;
         if (user.getRole() == UserRole.ADMIN || user.getRole() == UserRole.SCRUM_MASTER) {
             canUpdateEta = true;
-        } else if (request.getAssignedTo() != null && request.getAssignedTo().equalsIgnoreCase(userNtid)) {
+        } else if (user.getNtid().equals(request.getAssignedTo())) {
             canUpdateEta = true;
         }
 
@@ -449,6 +535,7 @@ public class RequestService {
 
         // Save request first
         Request savedRequest = requestRepository.save(request);
+        boardService.publish(savedRequest);
 
         // Add comment for ETA change
         try {
@@ -460,7 +547,7 @@ public class RequestService {
                 userNtid
             );
         } catch (Exception e) {
-            System.out.println("  [RequestService] Warning: Failed to add ETA change comment: " + e.getMessage());
+            logger.warn("Failed to add ETA change comment: {}", e.getMessage());
             // Don't fail the ETA update if comment creation fails
         }
 
@@ -472,15 +559,14 @@ public class RequestService {
      */
     @Transactional
     public Request updateStatus(Long requestId, UpdateStatusDTO statusDTO, String userNtid) {
-        System.out.println("  [RequestService] updateStatus() called");
-        System.out.println("  [RequestService] Request ID: " + requestId);
-        System.out.println("  [RequestService] New status: " + statusDTO.getStatus());
+        logger.debug("updateStatus() called");
+        logger.debug("Request ID: {}", requestId);
+        logger.debug("New status: {}", statusDTO.getStatus());
 
         Request request = requestRepository.findById(requestId)
             .orElseThrow(() -> new RuntimeException("Request not found: " + requestId));
 
-        User user = userRepository.findByNtid(userNtid)
-            .orElseThrow(() -> new RuntimeException("User not found: " + userNtid));
+        User user = callerContext.requireUser(userNtid);
 
         // Cannot update status of OPEN tickets (must be assigned first)
         if (request.getStatus() == RequestStatus.OPEN) {
@@ -494,19 +580,12 @@ public class RequestService {
         
         if (user.getRole() == UserRole.ADMIN) {
             canUpdate = true;
-        } else if (userNtid.equals(request.getAssignedTo())) {
+        } else if (user.getNtid().equals(request.getAssignedTo())) {
             // Assigned user can update status
             canUpdate = true;
         } else if (user.getRole() == UserRole.SCRUM_MASTER) {
             // SCRUM_MASTER can update status for tickets in their handled accounts
-            List<Long> junctionAccountIds = userAccountRepository.findAccountIdsByNtid(userNtid);
-            List<Long> handledAccountIds;
-            
-            if (junctionAccountIds.isEmpty() && user.getAccountId() != null) {
-                handledAccountIds = List.of(user.getAccountId());
-            } else {
-                handledAccountIds = junctionAccountIds;
-            }
+            List<Long> handledAccountIds = callerContext.handledAccountIds(user);
             
             if (request.getAccountId() != null && handledAccountIds.contains(request.getAccountId())) {
                 canUpdate = true;
@@ -531,7 +610,10 @@ public class RequestService {
             throw new RuntimeException("Invalid status transition");
         }
 
-        return requestRepository.save(request);
+        Request savedRequest = requestRepository.save(request);
+        searchService.indexRequest(savedRequest);
+        boardService.publish(savedRequest);
+        return savedRequest;
     }
 
     /**
@@ -539,40 +621,46 @@ public class RequestService {
      */
     @Transactional
     public void deleteRequest(Long requestId, String userNtid) {
-        System.out.println("  [RequestService] deleteRequest() called");
-        System.out.println("  [RequestService] Request ID: " + requestId);
+        logger.debug("deleteRequest() called for request ID: {}", requestId);
 
         Request request = requestRepository.findById(requestId)
             .orElseThrow(() -> new RuntimeException("Request not found: " + requestId));
 
-        User user = userRepository.findByNtid(userNtid)
-            .orElseThrow(() -> new RuntimeException("User not found: " + userNtid));
+        User user = callerContext.requireUser(userNtid);
 
         // Deletion rules: Only creator, SCRUM_MASTER, or ADMIN can delete tickets (regardless of status)
         if (user.getRole() != UserRole.ADMIN && 
             user.getRole() != UserRole.SCRUM_MASTER && 
-            !userNtid.equals(request.getCreatedBy())) {
+            !user.getNtid().equals(request.getCreatedBy())) {
             throw new RuntimeException("Only creator, SCRUM_MASTER, or ADMIN can delete tickets");
         }
 
         request.setActive(false);
         requestRepository.save(request);
+        searchService.removeRequest(requestId);
+        boardService.publish(request);
+        logger.info("Request {} deleted by {}", requestId, userNtid);
     }
 
     /**
-     * Get requests approaching ETA
+     * Get requests approaching ETA (as DTOs: the coalesced result is shared between threads)
      */
-    public List<Request> getRequestsApproachingEta(int thresholdMinutes) {
+    @Transactional(readOnly = true)
+    @Coalesced
+    public List<EtaAlertDTO> getRequestsApproachingEta(int thresholdMinutes) {
         LocalDateTime thresholdTime = LocalDateTime.now().plusMinutes(thresholdMinutes);
-        return requestRepository.findRequestsApproachingEta(thresholdTime);
+        return requestRepository.findRequestsApproachingEta(thresholdTime).stream()
+            .map(EtaAlertDTO::new)
+            .collect(Collectors.toUnmodifiableList());
     }
 
     /**
      * Get dashboard statistics
      */
+    @Transactional(readOnly = true)
+    @Coalesced(caller = 0, callerScoped = true)
     public java.util.Map<String, Object> getDashboardStats(String userNtid) {
-        User user = userRepository.findByNtid(userNtid)
-            .orElseThrow(() -> new RuntimeException("User not found: " + userNtid));
+        User user = callerContext.requireUser(userNtid);
 
         java.util.Map<String, Object> stats = new java.util.HashMap<>();
 
@@ -585,15 +673,7 @@ public class RequestService {
         } else if (user.getRole() == UserRole.SCRUM_MASTER) {
             // SCRUM_MASTER sees stats for accounts they handle
             // Check both FLOWAI_USER_ACCOUNTS junction table and user's accountId from FLOWAI_USERS
-            List<Long> junctionAccountIds = userAccountRepository.findAccountIdsByNtid(userNtid);
-            List<Long> handledAccountIds;
-            
-            // If no accounts in junction table, check user's accountId from FLOWAI_USERS
-            if (junctionAccountIds.isEmpty() && user.getAccountId() != null) {
-                handledAccountIds = List.of(user.getAccountId());
-            } else {
-                handledAccountIds = junctionAccountIds;
-            }
+            List<Long> handledAccountIds = callerContext.handledAccountIds(user);
             
             if (handledAccountIds.isEmpty()) {
                 stats.put("openRequests", 0);
@@ -614,9 +694,9 @@ public class RequestService {
                 stats.put("totalRequests", (long) allRequests.size());
             }
         } else if (user.getRole() == UserRole.DEVELOPER) {
-            stats.put("assignedToMe", requestRepository.countByAssignedToAndActiveTrue(userNtid));
+            stats.put("assignedToMe", requestRepository.countByAssignedToAndActiveTrue(user.getNtid()));
         } else if (user.getRole() == UserRole.USER) {
-            List<Request> myRequests = requestRepository.findByCreatedByAndActiveTrueOrderByCreatedAtDesc(userNtid);
+            List<Request> myRequests = requestRepository.findByCreatedByAndActiveTrueOrderByCreatedAtDesc(user.getNtid());
             stats.put("myRequests", myRequests.size());
         }
 
@@ -627,77 +707,16 @@ public class RequestService {
      * Get account statistics (tickets per account)
      * Available to all users
      */
+    @Transactional(readOnly = true)
+    @Coalesced
     public List<com.finsight.dto.AccountStatsDTO> getAccountStatistics() {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: getAccountStatistics");
+        logger.debug("API CALLED: getAccountStatistics");
         
         List<com.finsight.entity.Account> allAccounts = accountRepository.findByActiveTrueOrderByAccountNameAsc();
-        List<com.finsight.dto.AccountStatsDTO> accountStatsList = new java.util.ArrayList<>();
+        // One query per account; run in parallel when fan-out is enabled
+        List<com.finsight.dto.AccountStatsDTO> accountStatsList = fanOut.map(allAccounts, this::buildAccountStats);
 
-        for (com.finsight.entity.Account account : allAccounts) {
-            List<Request> accountRequests = requestRepository.findByAccountIdAndActiveTrueOrderByCreatedAtDesc(account.getAccountId());
-            
-            long totalTickets = accountRequests.size();
-            
-            long openTickets = accountRequests.stream()
-                .filter(r -> r.getStatus() == RequestStatus.OPEN)
-                .count();
-
-            long resolvedTickets = accountRequests.stream()
-                .filter(r -> r.getStatus() == RequestStatus.COMPLETED)
-                .count();
-
-            long pendingTickets = accountRequests.stream()
-                .filter(r -> r.getStatus() == RequestStatus.ASSIGNED || r.getStatus() == RequestStatus.IN_PROGRESS)
-                .count();
-
-            long onHoldTickets = accountRequests.stream()
-                .filter(r -> r.getStatus() == RequestStatus.ON_HOLD)
-                .count();
-
-            // ETA calculations
-            long crossedEta = 0;
-            LocalDateTime now = LocalDateTime.now();
-
-            for (Request ticket : accountRequests) {
-                if (ticket.getEta() != null) {
-                    if (ticket.getStatus() == RequestStatus.COMPLETED) {
-                        if (ticket.getUpdatedAt() != null && !ticket.getUpdatedAt().isBefore(ticket.getEta())) {
-                            crossedEta++;
-                        }
-                    } else if (ticket.getEta().isBefore(now)) {
-                        // ETA has passed but ticket is not completed
-                        crossedEta++;
-                    }
-                }
-            }
-
-            com.finsight.dto.AccountStatsDTO accountStats = new com.finsight.dto.AccountStatsDTO(
-                account.getAccountId(),
-                account.getAccountName(),
-                openTickets
-            );
-
-            accountStats.setTotalTickets(totalTickets);
-            accountStats.setResolvedTickets(resolvedTickets);
-            accountStats.setPendingTickets(pendingTickets);
-            accountStats.setOnHoldTickets(onHoldTickets);
-            accountStats.setCrossedEtaTickets(crossedEta);
-
-            // Debug logging
-            System.out.println("  Account: " + account.getAccountName() + " (ID: " + account.getAccountId() + ")");
-            System.out.println("    Total: " + accountStats.getTotalTickets());
-            System.out.println("    Resolved: " + accountStats.getResolvedTickets());
-            System.out.println("    Pending (In Progress): " + accountStats.getPendingTickets());
-            System.out.println("    On Hold: " + accountStats.getOnHoldTickets());
-            System.out.println("    Open: " + accountStats.getOpenTickets());
-            System.out.println("    Crossed ETA: " + accountStats.getCrossedEtaTickets());
-
-            accountStatsList.add(accountStats);
-        }
-
-        System.out.println("Returning statistics for " + accountStatsList.size() + " accounts");
-        System.out.println("=========================================\n");
+        logger.debug("Returning statistics for {} accounts", accountStatsList.size());
         return accountStatsList;
     }
 
@@ -705,107 +724,31 @@ public class RequestService {
      * Get user ticket statistics filtered by account
      * Available to all users
      */
+    @Transactional(readOnly = true)
+    @Coalesced
     public List<com.finsight.dto.UserTicketStatsDTO> getUserStatisticsByAccount(Long accountId) {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: getUserStatisticsByAccount");
-        System.out.println("Account ID: " + accountId);
+        logger.debug("API CALLED: getUserStatisticsByAccount");
+        logger.debug("Account ID: {}", accountId);
         
         if (accountId == null) {
-            System.out.println("ERROR: Account ID is null");
+            logger.warn("Account ID is null");
             throw new RuntimeException("Account ID cannot be null");
         }
         
         // Get all users who have this account (either directly or through junction table)
         List<User> allUsers = userRepository.findAllByOrderByNtidAsc();
-        List<com.finsight.dto.UserTicketStatsDTO> statsList = new java.util.ArrayList<>();
-        
-        System.out.println("Total users in system: " + allUsers.size());
+        logger.debug("Total users in system: {}", allUsers.size());
 
-        for (User user : allUsers) {
-            // Check if user belongs to this account
-            boolean belongsToAccount = false;
-            if (user.getAccountId() != null && user.getAccountId().equals(accountId)) {
-                belongsToAccount = true;
-            } else {
-                // Check junction table
-                List<Long> userAccountIds = userAccountRepository.findAccountIdsByNtid(user.getNtid());
-                if (userAccountIds.contains(accountId)) {
-                    belongsToAccount = true;
-                }
-            }
-
-            if (!belongsToAccount) {
-                continue; // Skip users not in this account
-            }
-
-            // Get tickets assigned to this user for this account
-            // Use case-insensitive comparison by trimming and normalizing
-            String userNtidNormalized = user.getNtid() != null ? user.getNtid().trim() : "";
-            List<Request> assignedTickets = requestRepository.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(userNtidNormalized)
-                .stream()
-                .filter(r -> r.getAccountId() != null && r.getAccountId().equals(accountId))
-                .collect(Collectors.toList());
-            
-            // Debug logging
-            System.out.println("  User: " + user.getNtid() + " in Account: " + accountId + " - Found " + assignedTickets.size() + " assigned tickets");
-            
-            com.finsight.dto.UserTicketStatsDTO stats = new com.finsight.dto.UserTicketStatsDTO(
-                user.getNtid(),
-                user.getEmail(),
-                user.getRole().toString()
-            );
-            
-            stats.setTotalTickets((long) assignedTickets.size());
-
-            // Count by status
-            long resolved = assignedTickets.stream()
-                .filter(r -> r.getStatus() == RequestStatus.COMPLETED)
-                .count();
-            stats.setResolvedTickets(resolved);
-
-            long pending = assignedTickets.stream()
-                .filter(r -> r.getStatus() == RequestStatus.ASSIGNED || r.getStatus() == RequestStatus.IN_PROGRESS)
-                .count();
-            stats.setPendingTickets(pending);
-            System.out.println("  User: " + user.getNtid() + " in Account: " + accountId + " - Pending (In Progress): " + pending);
-
-            long onHold = assignedTickets.stream()
-                .filter(r -> r.getStatus() == RequestStatus.ON_HOLD)
-                .count();
-            stats.setOnHoldTickets(onHold);
-
-            // Unresolved is no longer displayed, but keep for backward compatibility
-            long unresolved = assignedTickets.stream()
-                .filter(r -> r.getStatus() != RequestStatus.COMPLETED && r.getStatus() != RequestStatus.CANCELLED)
-                .count();
-            stats.setUnresolvedTickets(unresolved);
-
-            // ETA calculations
-            long crossedEta = 0;
-            LocalDateTime now = LocalDateTime.now();
-
-            for (Request ticket : assignedTickets) {
-                if (ticket.getEta() != null) {
-                    if (ticket.getStatus() == RequestStatus.COMPLETED) {
-                        if (ticket.getUpdatedAt() != null && !ticket.getUpdatedAt().isBefore(ticket.getEta())) {
-                            crossedEta++;
-                        }
-                    } else if (ticket.getEta().isBefore(now)) {
-                        crossedEta++;
-                    }
-                }
-            }
-
-            stats.setCrossedEtaTickets(crossedEta);
-
-            statsList.add(stats);
-        }
+        // Up to two queries per user; run in parallel when fan-out is enabled
+        List<com.finsight.dto.UserTicketStatsDTO> statsList = fanOut.map(allUsers, user -> buildUserStatsForAccount(user, accountId))
+            .stream()
+            .filter(java.util.Objects::nonNull)
+            .collect(Collectors.toList());
 
-        System.out.println("Returning statistics for " + statsList.size() + " users in account " + accountId);
+        logger.debug("Returning statistics for {} users in account {}", statsList.size(), accountId);
         if (statsList.isEmpty()) {
-            System.out.println("WARNING: No users found for account " + accountId);
+            logger.warn("No users found for account {}", accountId);
         }
-        System.out.println("=========================================\n");
         return statsList;
     }
 
@@ -813,88 +756,235 @@ public class RequestService {
      * Get ticket statistics for all users
      * Available to all users
      */
+    @Transactional(readOnly = true)
+    @Coalesced(caller = 0)
     public List<com.finsight.dto.UserTicketStatsDTO> getUserTicketStatistics(String requestedBy) {
-        System.out.println("\n=========================================");
-        System.out.println("API CALLED: getUserTicketStatistics");
-        System.out.println("Requested by: " + requestedBy);
+        logger.debug("API CALLED: getUserTicketStatistics");
+        logger.debug("Requested by: {}", requestedBy);
         
         // Verify user exists (but no role restriction - all users can view)
-        userRepository.findByNtid(requestedBy)
+        callerContext.findUser(requestedBy)
             .orElseThrow(() -> new RuntimeException("Requester not found"));
 
         // Get all users (both active and inactive) - to show statistics for all users including their tickets
         // Note: Tickets assigned to inactive users remain visible in statistics and ticket views
         // When a user is reactivated, they can immediately see their tickets again
         List<User> allUsers = userRepository.findAllByOrderByNtidAsc();
-        List<com.finsight.dto.UserTicketStatsDTO> statsList = new java.util.ArrayList<>();
+        // One query per user; run in parallel when fan-out is enabled
+        List<com.finsight.dto.UserTicketStatsDTO> statsList = fanOut.map(allUsers, this::buildUserTicketStats);
 
-        for (User user : allUsers) {
-            com.finsight.dto.UserTicketStatsDTO stats = new com.finsight.dto.UserTicketStatsDTO(
-                user.getNtid(),
-                user.getEmail(),
-                user.getRole().toString()
-            );
+        logger.debug("Returning statistics for {} users", statsList.size());
+        return statsList;
+    }
 
-            // Get all tickets assigned to this user (regardless of user's active status)
-            // This ensures tickets remain visible even when user is deactivated
-            // Use case-insensitive comparison by trimming and normalizing
-            String userNtidNormalized = user.getNtid() != null ? user.getNtid().trim() : "";
-            List<Request> assignedTickets = requestRepository.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(userNtidNormalized);
-            
-            // Debug logging
-            System.out.println("  User: " + user.getNtid() + " - Found " + assignedTickets.size() + " assigned tickets");
-            for (Request ticket : assignedTickets) {
-                System.out.println("    Ticket ID: " + ticket.getRequestId() + ", Status: " + ticket.getStatus() + ", AssignedTo: '" + ticket.getAssignedTo() + "'");
+    /**
+     * Ticket counts for one account
+     */
+    private com.finsight.dto.AccountStatsDTO buildAccountStats(com.finsight.entity.Account account) {
+        List<Request> accountRequests = requestRepository.findByAccountIdAndActiveTrueOrderByCreatedAtDesc(account.getAccountId());
+        
+        long totalTickets = accountRequests.size();
+        
+        long openTickets = accountRequests.stream()
+            .filter(r -> r.getStatus() == RequestStatus.OPEN)
+            .count();
+
+        long resolvedTickets = accountRequests.stream()
+            .filter(r -> r.getStatus() == RequestStatus.COMPLETED)
+            .count();
+
+        long pendingTickets = accountRequests.stream()
+            .filter(r -> r.getStatus() == RequestStatus.ASSIGNED || r.getStatus() == RequestStatus.IN_PROGRESS)
+            .count();
+
+        long onHoldTickets = accountRequests.stream()
+            .filter(r -> r.getStatus() == RequestStatus.ON_HOLD)
+            .count();
+
+        // ETA calculations
+        long crossedEta = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Request ticket : accountRequests) {
+            if (ticket.getEta() != null) {
+                if (ticket.getStatus() == RequestStatus.COMPLETED) {
+                    if (ticket.getUpdatedAt() != null && !ticket.getUpdatedAt().isBefore(ticket.getEta())) {
+                        crossedEta++;
+                    }
+                } else if (ticket.getEta().isBefore(now)) {
+                    // ETA has passed but ticket is not completed
+                    crossedEta++;
+                }
             }
-            
-            stats.setTotalTickets((long) assignedTickets.size());
+        }
+
+        com.finsight.dto.AccountStatsDTO accountStats = new com.finsight.dto.AccountStatsDTO(
+            account.getAccountId(),
+            account.getAccountName(),
+            openTickets
+        );
 
-            // Count by status
-            long resolved = assignedTickets.stream()
-                .filter(r -> r.getStatus() == RequestStatus.COMPLETED)
-                .count();
-            stats.setResolvedTickets(resolved);
+        accountStats.setTotalTickets(totalTickets);
+        accountStats.setResolvedTickets(resolvedTickets);
+        accountStats.setPendingTickets(pendingTickets);
+        accountStats.setOnHoldTickets(onHoldTickets);
+        accountStats.setCrossedEtaTickets(crossedEta);
 
-            long pending = assignedTickets.stream()
-                .filter(r -> r.getStatus() == RequestStatus.ASSIGNED || r.getStatus() == RequestStatus.IN_PROGRESS)
-                .count();
-            stats.setPendingTickets(pending);
+        // Debug logging
+        logger.debug("Account: {} (ID: {}) - Total: {}, Resolved: {}, Pending (In Progress): {}, On Hold: {}, Open: {}, Crossed ETA: {}",
+            account.getAccountName(), account.getAccountId(), accountStats.getTotalTickets(),
+            accountStats.getResolvedTickets(), accountStats.getPendingTickets(), accountStats.getOnHoldTickets(),
+            accountStats.getOpenTickets(), accountStats.getCrossedEtaTickets());
 
-            long onHold = assignedTickets.stream()
-                .filter(r -> r.getStatus() == RequestStatus.ON_HOLD)
-                .count();
-            stats.setOnHoldTickets(onHold);
+        return accountStats;
+    }
 
-            long unresolved = assignedTickets.stream()
-                .filter(r -> r.getStatus() != RequestStatus.COMPLETED && r.getStatus() != RequestStatus.CANCELLED)
-                .count();
-            stats.setUnresolvedTickets(unresolved);
+    /**
+     * Ticket counts for one user, limited to one account; null when the user is not in that account
+     */
+    private com.finsight.dto.UserTicketStatsDTO buildUserStatsForAccount(User user, Long accountId) {
+        // Check if user belongs to this account
+        boolean belongsToAccount = false;
+        if (user.getAccountId() != null && user.getAccountId().equals(accountId)) {
+            belongsToAccount = true;
+        } else {
+            // Check junction table
+            List<Long> userAccountIds = userAccountRepository.findAccountIdsByNtid(user.getNtid());
+            if (userAccountIds.contains(accountId)) {
+                belongsToAccount = true;
+            }
+        }
 
-            // ETA calculations
-            long crossedEta = 0;
-            LocalDateTime now = LocalDateTime.now();
+        if (!belongsToAccount) {
+            return null; // Skip users not in this account
+        }
 
-            for (Request ticket : assignedTickets) {
-                if (ticket.getEta() != null) {
-                    if (ticket.getStatus() == RequestStatus.COMPLETED) {
-                        // Check if completed after ETA
-                        if (ticket.getUpdatedAt() != null && !ticket.getUpdatedAt().isBefore(ticket.getEta())) {
-                            crossedEta++;
-                        }
-                    } else if (ticket.getEta().isBefore(now)) {
-                        // ETA has passed but ticket is not completed
+        // Get tickets assigned to this user for this account
+        List<Request> assignedTickets = requestRepository.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(user.getNtid())
+            .stream()
+            .filter(r -> r.getAccountId() != null && r.getAccountId().equals(accountId))
+            .collect(Collectors.toList());
+        
+        // Debug logging
+        logger.debug("User: {} in Account: {} - Found {} assigned tickets", user.getNtid(), accountId, assignedTickets.size());
+        
+        com.finsight.dto.UserTicketStatsDTO stats = new com.finsight.dto.UserTicketStatsDTO(
+            user.getNtid(),
+            user.getEmail(),
+            user.getRole().toString()
+        );
+        
+        stats.setTotalTickets((long) assignedTickets.size());
+
+        // Count by status
+        long resolved = assignedTickets.stream()
+            .filter(r -> r.getStatus() == RequestStatus.COMPLETED)
+            .count();
+        stats.setResolvedTickets(resolved);
+
+        long pending = assignedTickets.stream()
+            .filter(r -> r.getStatus() == RequestStatus.ASSIGNED || r.getStatus() == RequestStatus.IN_PROGRESS)
+            .count();
+        stats.setPendingTickets(pending);
+        logger.debug("User: {} in Account: {} - Pending (In Progress): {}", user.getNtid(), accountId, pending);
+
+        long onHold = assignedTickets.stream()
+            .filter(r -> r.getStatus() == RequestStatus.ON_HOLD)
+            .count();
+        stats.setOnHoldTickets(onHold);
+
+        // Unresolved is no longer displayed, but keep for backward compatibility
+        long unresolved = assignedTickets.stream()
+            .filter(r -> r.getStatus() != RequestStatus.COMPLETED && r.getStatus() != RequestStatus.CANCELLED)
+            .count();
+        stats.setUnresolvedTickets(unresolved);
+
+        // ETA calculations
+        long crossedEta = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Request ticket : assignedTickets) {
+            if (ticket.getEta() != null) {
+                if (ticket.getStatus() == RequestStatus.COMPLETED) {
+                    if (ticket.getUpdatedAt() != null && !ticket.getUpdatedAt().isBefore(ticket.getEta())) {
                         crossedEta++;
                     }
+                } else if (ticket.getEta().isBefore(now)) {
+                    crossedEta++;
                 }
             }
+        }
+
+        stats.setCrossedEtaTickets(crossedEta);
 
-            stats.setCrossedEtaTickets(crossedEta);
+        return stats;
+    }
 
-            statsList.add(stats);
+    /**
+     * Ticket counts for one user across all accounts
+     */
+    private com.finsight.dto.UserTicketStatsDTO buildUserTicketStats(User user) {
+        com.finsight.dto.UserTicketStatsDTO stats = new com.finsight.dto.UserTicketStatsDTO(
+            user.getNtid(),
+            user.getEmail(),
+            user.getRole().toString()
+        );
+
+        // Get all tickets assigned to this user (regardless of user's active status)
+        // This ensures tickets remain visible even when user is deactivated
+        List<Request> assignedTickets = requestRepository.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(user.getNtid());
+        
+        // Debug logging
+        logger.debug("User: {} - Found {} assigned tickets", user.getNtid(), assignedTickets.size());
+        if (logger.isTraceEnabled()) {
+            for (Request ticket : assignedTickets) {
+                logger.trace("Ticket ID: {}, Status: {}, AssignedTo: '{}'", ticket.getRequestId(), ticket.getStatus(), ticket.getAssignedTo());
+            }
+        }
+        
+        stats.setTotalTickets((long) assignedTickets.size());
+
+        // Count by status
+        long resolved = assignedTickets.stream()
+            .filter(r -> r.getStatus() == RequestStatus.COMPLETED)
+            .count();
+        stats.setResolvedTickets(resolved);
+
+        long pending = assignedTickets.stream()
+            .filter(r -> r.getStatus() == RequestStatus.ASSIGNED || r.getStatus() == RequestStatus.IN_PROGRESS)
+            .count();
+        stats.setPendingTickets(pending);
+
+        long onHold = assignedTickets.stream()
+            .filter(r -> r.getStatus() == RequestStatus.ON_HOLD)
+            .count();
+        stats.setOnHoldTickets(onHold);
+
+        long unresolved = assignedTickets.stream()
+            .filter(r -> r.getStatus() != RequestStatus.COMPLETED && r.getStatus() != RequestStatus.CANCELLED)
+            .count();
+        stats.setUnresolvedTickets(unresolved);
+
+        // ETA calculations
+        long crossedEta = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Request ticket : assignedTickets) {
+            if (ticket.getEta() != null) {
+                if (ticket.getStatus() == RequestStatus.COMPLETED) {
+                    // Check if completed after ETA
+                    if (ticket.getUpdatedAt() != null && !ticket.getUpdatedAt().isBefore(ticket.getEta())) {
+                        crossedEta++;
+                    }
+                } else if (ticket.getEta().isBefore(now)) {
+                    // ETA has passed but ticket is not completed
+                    crossedEta++;
+                }
+            }
         }
 
-        System.out.println("Returning statistics for " + statsList.size() + " users");
-        System.out.println("=========================================\n");
-        return statsList;
+        stats.setCrossedEtaTickets(crossedEta);
+
+        return stats;
     }
 }
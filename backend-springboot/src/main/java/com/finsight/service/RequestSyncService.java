@@ -0,0 +1,166 @@
+package com.finsight.service;
+
+import com.finsight.entity.RequestView;
+import com.finsight.entity.User;
+import com.finsight.repository.RequestQueries;
+import com.finsight.repository.RequestRepository;
+import com.finsight.repository.RequestSummaryRepository;
+import com.finsight.repository.RequestTombstoneRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Request Sync Service
+ * Delta sync for polling clients (GET /api/requests/changes): instead of the whole ticket list,
+ * a client sends the token from its previous call and gets only the tickets that changed since
+ *
+ * - changed: tickets updated since the token that are in the caller's unfiltered getRequests list
+ * - removed: IDs of tickets updated since the token that are no longer in that list (deleted,
+ *   reassigned away, ...) plus tombstones of tickets moved to the archive
+ *
+ * The token is the time the previous call started. Changes are read from finsight.sync.overlap-seconds
+ * before it, so a ticket committed late (long transaction, replica lag, clock skew between instances)
+ * is not missed; clients must treat changed and removed as idempotent. Tokens older than
+ * finsight.sync.tombstone-retention-days are rejected, the client then reloads the full list
+ *
+ * @author Mukund Kute
+ */
+@Service
+public class RequestSyncService {
+
+    private static final String TOKEN_PREFIX = "v1:";
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestSummaryRepository requestSummaryRepository;
+
+    @Autowired
+    private RequestTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private CallerContext callerContext;
+
+    @Value("${finsight.sync.overlap-seconds:60}")
+    private long overlapSeconds;
+
+    @Value("${finsight.sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    /**
+     * Changes since the token; without a token, the caller's full list (full = true).
+     * summaries=true loads rows without the description
+     */
+    @Transactional(readOnly = true)
+    public Changes getChanges(String userNtid, String token, boolean summaries) {
+        LocalDateTime now = LocalDateTime.now();
+        String nextToken = encodeToken(now);
+
+        if (token == null || token.trim().isEmpty()) {
+            List<? extends RequestView> all = summaries
+                ? requestService.getRequestSummaries(userNtid, null, null, null, null)
+                : requestService.getRequests(userNtid, null, null, null, null);
+            return new Changes(nextToken, true, all, List.of());
+        }
+
+        LocalDateTime since = decodeToken(token.trim());
+        if (since.isBefore(now.minusDays(tombstoneRetentionDays))) {
+            throw new SyncTokenExpiredException("Sync token has expired, reload the full list");
+        }
+
+        User user = callerContext.requireUser(userNtid);
+        List<Long> handledAccountIds = callerContext.handledAccountIds(user);
+        LocalDateTime from = since.minusSeconds(overlapSeconds);
+        RequestQueries<? extends RequestView> queries = summaries ? requestSummaryRepository : requestRepository;
+
+        List<RequestView> changed = new ArrayList<>();
+        Set<Long> removed = new LinkedHashSet<>();
+        for (RequestView request : queries.findByUpdatedAtAfterOrderByUpdatedAtAsc(from)) {
+            if (requestService.isVisible(user, handledAccountIds, request)) {
+                changed.add(request);
+            } else {
+                removed.add(request.getRequestId());
+            }
+        }
+        removed.addAll(tombstoneRepository.findRequestIdsRemovedAfter(from));
+        return new Changes(nextToken, false, changed, new ArrayList<>(removed));
+    }
+
+    private static String encodeToken(LocalDateTime time) {
+        long millis = time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((TOKEN_PREFIX + millis).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static LocalDateTime decodeToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(TOKEN_PREFIX)) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            long millis = Long.parseLong(decoded.substring(TOKEN_PREFIX.length()));
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        } catch (IllegalArgumentException e) {
+            // Also covers malformed Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid sync token");
+        }
+    }
+
+    /**
+     * The token is older than the tombstone retention, so removals may be missing: the client reloads (410)
+     */
+    public static class SyncTokenExpiredException extends RuntimeException {
+        public SyncTokenExpiredException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * One sync response: rows to upsert, IDs to drop, and the token for the next call
+     */
+    public static class Changes {
+        private final String token;
+        private final boolean full;
+        private final List<? extends RequestView> changed;
+        private final List<Long> removed;
+
+        private Changes(String token, boolean full, List<? extends RequestView> changed, List<Long> removed) {
+            this.token = token;
+            this.full = full;
+            this.changed = changed;
+            this.removed = removed;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public boolean isFull() {
+            return full;
+        }
+
+        public List<? extends RequestView> getChanged() {
+            return changed;
+        }
+
+        public List<Long> getRemoved() {
+            return removed;
+        }
+    }
+}
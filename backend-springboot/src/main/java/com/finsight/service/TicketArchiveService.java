@@ -0,0 +1,202 @@
+package com.finsight.service;
+
+import com.finsight.config.SchemaNames;
+import com.finsight.repository.RequestRepository;
+import com.finsight.repository.RequestTombstoneRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ticket Archive Service
+ * Moves COMPLETED, CANCELLED and soft-deleted tickets not updated for finsight.archive.min-age-days,
+ * with their comments, from FLOWAI_REQUESTS / FLOWAI_REQUEST_COMMENTS to the _ARCHIVE tables
+ * (nightly, finsight.archive.cron), so the hot tables and their indexes stay small
+ *
+ * Each chunk of finsight.archive.chunk-size tickets is one transaction: the rows are locked and
+ * re-checked, copied, then deleted, so a ticket reopened meanwhile stays hot and a ticket is never
+ * in both tables. Reads fall back to the archive (RequestService.getRequestById, RequestCommentService).
+ * Each moved ticket gets a FLOWAI_REQUEST_TOMBSTONES row for delta sync; tombstones older than
+ * finsight.sync.tombstone-retention-days are purged at the end of a run. Moved tickets leave the
+ * live boards (BoardService) after each chunk commits
+ *
+ * Archived tickets are counted as finsight.archive.tickets
+ *
+ * @author Mukund Kute
+ */
+@Service
+public class TicketArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketArchiveService.class);
+
+    // Oracle limits IN lists to 1000 expressions
+    private static final int MAX_IN_LIST_SIZE = 1000;
+
+    private static final String REQUEST_COLUMNS = "REQUEST_ID, TITLE, DESCRIPTION, REQUEST_TYPE, PRIORITY, STATUS, "
+        + "CREATED_BY, ASSIGNED_TO, ACCOUNT_ID, CREATED_AT, UPDATED_AT, ASSIGNED_AT, ASSIGNED_BY, ETA, ACTIVE";
+
+    private static final String COMMENT_COLUMNS = "COMMENT_ID, REQUEST_ID, COMMENT_TEXT_SHORT, COMMENT_TEXT, "
+        + "COMMENTED_BY, COMMENTED_AT, IS_ETA_CHANGE, OLD_ETA, NEW_ETA, CHANGE_REASON, ACTIVE";
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private RequestSearchService searchService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SchemaNames schemaNames;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${finsight.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${finsight.archive.min-age-days:180}")
+    private int minAgeDays;
+
+    @Value("${finsight.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${finsight.sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // Built once the default schema is known (SchemaNames), like Hibernate's own SQL
+    private String lockArchivableSql;
+    private String archiveCommentsSql;
+    private String archiveRequestsSql;
+    private String recordTombstonesSql;
+    private String deleteCommentsSql;
+    private String deleteRequestsSql;
+
+    @PostConstruct
+    public void buildSql() {
+        String requests = schemaNames.table("FLOWAI_REQUESTS");
+        String comments = schemaNames.table("FLOWAI_REQUEST_COMMENTS");
+
+        // Same condition as RequestRepository.findArchivableRequestIds, re-checked under the row locks
+        lockArchivableSql = "SELECT REQUEST_ID FROM " + requests
+            + " WHERE REQUEST_ID IN (:ids) AND UPDATED_AT < :cutoff"
+            + " AND (STATUS IN ('COMPLETED', 'CANCELLED') OR ACTIVE = :inactive) FOR UPDATE";
+        archiveCommentsSql = "INSERT INTO " + schemaNames.table("FLOWAI_REQUEST_COMMENTS_ARCHIVE") + " (" + COMMENT_COLUMNS
+            + ", ARCHIVED_AT) SELECT " + COMMENT_COLUMNS + ", :archivedAt FROM " + comments + " WHERE REQUEST_ID IN (:ids)";
+        archiveRequestsSql = "INSERT INTO " + schemaNames.table("FLOWAI_REQUESTS_ARCHIVE") + " (" + REQUEST_COLUMNS
+            + ", ARCHIVED_AT) SELECT " + REQUEST_COLUMNS + ", :archivedAt FROM " + requests + " WHERE REQUEST_ID IN (:ids)";
+        recordTombstonesSql = "INSERT INTO " + schemaNames.table("FLOWAI_REQUEST_TOMBSTONES") + " (REQUEST_ID, REMOVED_AT)"
+            + " SELECT REQUEST_ID, :archivedAt FROM " + requests + " WHERE REQUEST_ID IN (:ids)";
+        deleteCommentsSql = "DELETE FROM " + comments + " WHERE REQUEST_ID IN (:ids)";
+        deleteRequestsSql = "DELETE FROM " + requests + " WHERE REQUEST_ID IN (:ids)";
+    }
+
+    @Scheduled(cron = "${finsight.archive.cron:0 30 2 * * *}")
+    public void archiveOnSchedule() {
+        if (enabled) {
+            archiveClosedTickets();
+        }
+    }
+
+    /**
+     * Archive every eligible ticket, chunk by chunk; returns the number of tickets moved
+     * (0 when a run is already in progress)
+     */
+    public int archiveClosedTickets() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Ticket archiving is already running");
+            return 0;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+            int size = Math.min(chunkSize, MAX_IN_LIST_SIZE);
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setName(TicketArchiveService.class.getName() + ".archiveChunk");
+
+            long startTime = System.currentTimeMillis();
+            AtomicInteger total = new AtomicInteger();
+            int candidates;
+            do {
+                // A chunk may move none of its candidates (all reopened meanwhile); only stop when none are left
+                candidates = transaction.execute(status -> archiveChunk(cutoff, size, total));
+            } while (candidates > 0);
+
+            Integer purged = transaction.execute(status ->
+                tombstoneRepository.deleteRemovedBefore(LocalDateTime.now().minusDays(tombstoneRetentionDays)));
+
+            logger.info("Archived {} tickets not updated since {} in {} ms ({} expired tombstones purged)",
+                total.get(), cutoff, (System.currentTimeMillis() - startTime), purged);
+            return total.get();
+        } catch (RuntimeException e) {
+            logger.error("Ticket archiving failed", e);
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Move the next chunk of eligible tickets, adding the number moved to archived; returns the number
+     * of candidates found (0 when there is nothing left to archive)
+     */
+    private int archiveChunk(LocalDateTime cutoff, int size, AtomicInteger archived) {
+        List<Long> candidates = requestRepository.findArchivableRequestIds(cutoff, PageRequest.of(0, size));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(lockArchivableSql, new MapSqlParameterSource()
+            .addValue("ids", candidates)
+            .addValue("cutoff", cutoff)
+            .addValue("inactive", false), Long.class);
+        if (ids.isEmpty()) {
+            // Every candidate changed since the query; they no longer match it, so the next chunk moves on
+            return candidates.size();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("archivedAt", LocalDateTime.now());
+        int comments = jdbcTemplate.update(archiveCommentsSql, params);
+        jdbcTemplate.update(archiveRequestsSql, params);
+        jdbcTemplate.update(recordTombstonesSql, params);
+        jdbcTemplate.update(deleteCommentsSql, params);
+        jdbcTemplate.update(deleteRequestsSql, params);
+
+        for (Long requestId : ids) {
+            searchService.removeRequest(requestId);
+        }
+        boardService.removeCards(ids);
+        meterRegistry.counter("finsight.archive.tickets").increment(ids.size());
+        logger.debug("Archived {} tickets and {} comments", ids.size(), comments);
+        archived.addAndGet(ids.size());
+        return candidates.size();
+    }
+}
@@ -1,6 +1,6 @@
 package com.finsight.service;
 
-import com.finsight.entity.Request;
+import com.finsight.entity.RequestView;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -17,7 +17,7 @@ public class TimerService {
     /**
      * Calculate time spent in OPEN queue (from creation to assignment)
      */
-    public Duration getTimeInOpenQueue(Request request) {
+    public Duration getTimeInOpenQueue(RequestView request) {
         if (request.getAssignedAt() == null) {
             // Still in open queue
             if (request.getCreatedAt() != null) {
@@ -35,7 +35,7 @@ public class TimerService {
     /**
      * Calculate time spent in DEVELOPER queue (from assignment to now)
      */
-    public Duration getTimeInDeveloperQueue(Request request) {
+    public Duration getTimeInDeveloperQueue(RequestView request) {
         if (request.getAssignedAt() == null) {
             return Duration.ZERO;
         }
@@ -45,17 +45,21 @@ public class TimerService {
     /**
      * Calculate time until ETA
      */
-    public Duration getTimeUntilEta(Request request) {
-        if (request.getEta() == null) {
+    public Duration getTimeUntilEta(RequestView request) {
+        return getTimeUntilEta(request.getEta());
+    }
+
+    public Duration getTimeUntilEta(LocalDateTime eta) {
+        if (eta == null) {
             return null;
         }
-        return Duration.between(LocalDateTime.now(), request.getEta());
+        return Duration.between(LocalDateTime.now(), eta);
     }
 
     /**
      * Check if ETA is approaching (within threshold minutes)
      */
-    public boolean isEtaApproaching(Request request, int thresholdMinutes) {
+    public boolean isEtaApproaching(RequestView request, int thresholdMinutes) {
         if (request.getEta() == null) {
             return false;
         }
@@ -70,11 +74,15 @@ public class TimerService {
     /**
      * Check if ETA has passed
      */
-    public boolean isEtaExceeded(Request request) {
-        if (request.getEta() == null) {
+    public boolean isEtaExceeded(RequestView request) {
+        return isEtaExceeded(request.getEta());
+    }
+
+    public boolean isEtaExceeded(LocalDateTime eta) {
+        if (eta == null) {
             return false;
         }
-        return LocalDateTime.now().isAfter(request.getEta());
+        return LocalDateTime.now().isAfter(eta);
     }
 
     /**
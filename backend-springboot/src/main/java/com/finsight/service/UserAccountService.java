@@ -7,6 +7,8 @@ import com.finsight.entity.UserRole;
 import com.finsight.repository.AccountRepository;
 import com.finsight.repository.UserAccountRepository;
 import com.finsight.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,12 +23,17 @@ import java.util.List;
 @Service
 public class UserAccountService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserAccountService.class);
+
     @Autowired
     private UserAccountRepository userAccountRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CallerContext callerContext;
+
     @Autowired
     private AccountRepository accountRepository;
 
@@ -35,11 +42,11 @@ public class UserAccountService {
      */
     @Transactional
     public UserAccount assignAccountToUser(AssignAccountDTO assignDTO, String requestedBy) {
-        System.out.println("  [UserAccountService] assignAccountToUser() called");
-        System.out.println("  [UserAccountService] Assigning account " + assignDTO.getAccountId() + " to user " + assignDTO.getNtid());
+        logger.debug("assignAccountToUser() called");
+        logger.debug("Assigning account {} to user {}", assignDTO.getAccountId(), assignDTO.getNtid());
 
         // Check requester permissions (only ADMIN can assign)
-        User requester = userRepository.findByNtid(requestedBy)
+        User requester = callerContext.findUser(requestedBy)
             .orElseThrow(() -> new RuntimeException("Requester not found: " + requestedBy));
 
         if (requester.getRole() != UserRole.ADMIN) {
@@ -60,12 +67,12 @@ public class UserAccountService {
             .orElseThrow(() -> new RuntimeException("Account not found: " + assignDTO.getAccountId()));
 
         // Check if assignment already exists
-        if (userAccountRepository.existsByNtidAndAccountIdAndActiveTrue(assignDTO.getNtid(), assignDTO.getAccountId())) {
+        if (userAccountRepository.existsByNtidAndAccountIdAndActiveTrue(user.getNtid(), assignDTO.getAccountId())) {
             throw new RuntimeException("Account is already assigned to this user");
         }
 
         // Create new assignment
-        UserAccount userAccount = new UserAccount(assignDTO.getNtid(), assignDTO.getAccountId());
+        UserAccount userAccount = new UserAccount(user.getNtid(), assignDTO.getAccountId());
         return userAccountRepository.save(userAccount);
     }
 
@@ -73,14 +80,14 @@ public class UserAccountService {
      * Get all accounts handled by a user
      */
     public List<UserAccount> getAccountsByUser(String ntid) {
-        return userAccountRepository.findByNtidAndActiveTrue(ntid);
+        return userAccountRepository.findByNtidAndActiveTrue(User.canonicalNtid(ntid));
     }
 
     /**
      * Get account IDs handled by user
      */
     public List<Long> getAccountIdsByUser(String ntid) {
-        return userAccountRepository.findAccountIdsByNtid(ntid);
+        return userAccountRepository.findAccountIdsByNtid(User.canonicalNtid(ntid));
     }
 
     /**
@@ -88,10 +95,10 @@ public class UserAccountService {
      */
     @Transactional
     public void removeAccountAssignment(String ntid, Long accountId, String requestedBy) {
-        System.out.println("  [UserAccountService] removeAccountAssignment() called");
+        logger.debug("removeAccountAssignment() called");
 
         // Check requester permissions (only ADMIN can remove)
-        User requester = userRepository.findByNtid(requestedBy)
+        User requester = callerContext.findUser(requestedBy)
             .orElseThrow(() -> new RuntimeException("Requester not found: " + requestedBy));
 
         if (requester.getRole() != UserRole.ADMIN) {
@@ -99,7 +106,7 @@ public class UserAccountService {
         }
 
         // Verify assignment exists
-        UserAccount userAccount = userAccountRepository.findByNtidAndActiveTrue(ntid)
+        UserAccount userAccount = userAccountRepository.findByNtidAndActiveTrue(User.canonicalNtid(ntid))
             .stream()
             .filter(ua -> ua.getAccountId().equals(accountId))
             .findFirst()
@@ -0,0 +1,294 @@
+package com.finsight.service;
+
+import com.finsight.config.SchemaNames;
+import com.finsight.dto.BulkImportResultDTO;
+import com.finsight.entity.Account;
+import com.finsight.entity.User;
+import com.finsight.entity.UserRole;
+import com.finsight.repository.AccountRepository;
+import com.finsight.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * User Import Service
+ * Bulk-loads users from a CSV file (ADMIN only)
+ *
+ * Expected header: ntid,email,account,password[,role]
+ *
+ * @author Mukund Kute
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String INSERT_USER_COLUMNS =
+        " (NTID, EMAIL, ACCOUNT, ACCOUNT_ID, PASSWORD, ROLE, CREATED_AT, ACTIVE) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CallerContext callerContext;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SchemaNames schemaNames;
+
+    /**
+     * Import users from CSV (only by ADMIN)
+     * The file is read line by line and written in JDBC batches of BATCH_SIZE rows.
+     * Invalid or duplicate rows are skipped and reported, they do not abort the import.
+     */
+    @Transactional
+    public BulkImportResultDTO importUsers(InputStream csvStream, String requestedBy) throws IOException {
+        logger.debug("importUsers() called by: {}", requestedBy);
+        long startTime = System.currentTimeMillis();
+
+        User requester = callerContext.findUser(requestedBy)
+            .orElseThrow(() -> new RuntimeException("Requester not found"));
+
+        if (requester.getRole() != UserRole.ADMIN) {
+            throw new RuntimeException("Only ADMIN can import users");
+        }
+
+        // Resolve every account once instead of one lookup per row
+        Map<String, Account> accountsByName = new HashMap<>();
+        for (Account account : accountRepository.findAll()) {
+            accountsByName.put(account.getAccountName(), account);
+        }
+
+        // Load existing NTIDs and emails in a single query
+        Set<String> existingNtids = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        for (Object[] row : userRepository.findAllNtidsAndEmails()) {
+            existingNtids.add((String) row[0]);
+            existingEmails.add((String) row[1]);
+        }
+
+        BulkImportResultDTO result = new BulkImportResultDTO();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csvStream, StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new RuntimeException("CSV file is empty");
+            }
+            Map<String, Integer> columns = parseHeader(headerLine);
+
+            List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                result.setTotalRows(result.getTotalRows() + 1);
+
+                try {
+                    ImportRow row = toImportRow(parseCsvLine(line), columns, accountsByName);
+                    if (existingNtids.contains(row.ntid)) {
+                        throw new RuntimeException("User with this NTID already exists");
+                    }
+                    if (existingEmails.contains(row.email)) {
+                        throw new RuntimeException("User with this email already exists");
+                    }
+                    existingNtids.add(row.ntid);
+                    existingEmails.add(row.email);
+                    batch.add(row);
+                } catch (RuntimeException e) {
+                    skipRow(result, lineNumber, e.getMessage());
+                }
+
+                if (batch.size() >= BATCH_SIZE) {
+                    flushBatch(batch, result);
+                }
+            }
+            flushBatch(batch, result);
+        }
+
+        result.setDurationMs(System.currentTimeMillis() - startTime);
+        logger.info("Imported {} of {} rows in {} ms", result.getImportedUsers(), result.getTotalRows(), result.getDurationMs());
+        return result;
+    }
+
+    /**
+     * Hash passwords in parallel (BCrypt dominates the cost) and insert the batch in one JDBC round trip
+     */
+    private void flushBatch(List<ImportRow> batch, BulkImportResultDTO result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        batch.parallelStream().forEach(row -> row.hashedPassword = passwordEncoder.encode(row.password));
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            batchArgs.add(new Object[] {
+                row.ntid,
+                row.email,
+                row.account.getAccountName(),
+                row.account.getAccountId(),
+                row.hashedPassword,
+                row.role.name(),
+                createdAt,
+                Boolean.TRUE
+            });
+        }
+        // Qualified like Hibernate's tables (default_schema), rows must land where users are read
+        jdbcTemplate.batchUpdate("INSERT INTO " + schemaNames.table("FLOWAI_USERS") + INSERT_USER_COLUMNS, batchArgs);
+
+        result.setImportedUsers(result.getImportedUsers() + batch.size());
+        batch.clear();
+    }
+
+    private void skipRow(BulkImportResultDTO result, int lineNumber, String message) {
+        result.setSkippedRows(result.getSkippedRows() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add("Line " + lineNumber + ": " + message);
+        }
+    }
+
+    private Map<String, Integer> parseHeader(String headerLine) {
+        List<String> headers = parseCsvLine(headerLine);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            columns.put(headers.get(i).trim().toLowerCase(), i);
+        }
+        for (String required : List.of("ntid", "email", "account", "password")) {
+            if (!columns.containsKey(required)) {
+                throw new RuntimeException("CSV header is missing column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private ImportRow toImportRow(List<String> fields, Map<String, Integer> columns,
+                                  Map<String, Account> accountsByName) {
+        String ntid = field(fields, columns, "ntid");
+        String email = field(fields, columns, "email");
+        String accountName = field(fields, columns, "account");
+        String password = field(fields, columns, "password");
+        String role = field(fields, columns, "role");
+
+        if (ntid.isEmpty()) {
+            throw new RuntimeException("NTID is required");
+        }
+        if (email.isEmpty()) {
+            throw new RuntimeException("Email is required");
+        }
+        if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+            throw new RuntimeException("Invalid email format");
+        }
+        if (password.isEmpty()) {
+            throw new RuntimeException("Password is required");
+        }
+        if (accountName.isEmpty()) {
+            throw new RuntimeException("Account is required");
+        }
+
+        Account account = accountsByName.get(accountName);
+        if (account == null) {
+            throw new RuntimeException("Account not found: " + accountName);
+        }
+
+        ImportRow row = new ImportRow();
+        row.ntid = User.canonicalNtid(ntid);
+        row.email = email;
+        row.account = account;
+        row.password = password;
+        try {
+            row.role = role.isEmpty() ? UserRole.USER : UserRole.valueOf(role.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid role: " + role);
+        }
+        return row;
+    }
+
+    private String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return "";
+        }
+        return fields.get(index).trim();
+    }
+
+    /**
+     * Split one CSV line, honouring double-quoted fields and "" escapes
+     */
+    private List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * One validated CSV row waiting to be hashed and inserted
+     */
+    private static class ImportRow {
+        private String ntid;
+        private String email;
+        private Account account;
+        private String password;
+        private UserRole role;
+        private String hashedPassword;
+    }
+}
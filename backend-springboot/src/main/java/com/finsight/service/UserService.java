@@ -6,6 +6,8 @@ import com.finsight.entity.User;
 import com.finsight.entity.UserRole;
 import com.finsight.repository.AccountRepository;
 import com.finsight.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -21,9 +23,14 @@ import java.util.List;
 @Service
 public class UserService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CallerContext callerContext;
+
     @Autowired
     private AccountRepository accountRepository;
 
@@ -35,48 +42,48 @@ public class UserService {
      */
     @Transactional
     public User registerUser(UserRegistrationDTO registrationDTO) {
-        System.out.println("  [UserService] registerUser() called");
-        String ntid = registrationDTO.getNtid().toLowerCase();
-        System.out.println("  [UserService] Processing NTID: " + ntid);
+        logger.debug("registerUser() called");
+        String ntid = User.canonicalNtid(registrationDTO.getNtid());
+        logger.debug("Processing NTID: {}", ntid);
 
         // Check if user already exists
-        System.out.println("  [UserService] Checking if NTID exists...");
+        logger.debug("Checking if NTID exists...");
         if (userRepository.existsByNtid(ntid)) {
-            System.out.println("  [UserService] ERROR: NTID already exists");
+            logger.warn("NTID already exists");
             throw new RuntimeException("User with this NTID already exists");
         }
-        System.out.println("  [UserService] NTID is available");
+        logger.debug("NTID is available");
 
         // Check if email already exists
-        System.out.println("  [UserService] Checking if email exists...");
+        logger.debug("Checking if email exists...");
         if (userRepository.existsByEmail(registrationDTO.getEmail())) {
-            System.out.println("  [UserService] ERROR: Email already exists");
+            logger.warn("Email already exists");
             throw new RuntimeException("User with this email already exists");
         }
-        System.out.println("  [UserService] Email is available");
+        logger.debug("Email is available");
 
         // Look up account and get accountId (account is now mandatory)
         String accountName = registrationDTO.getAccount();
         if (accountName == null || accountName.trim().isEmpty()) {
-            System.out.println("  [UserService] ERROR: Account is required");
+            logger.warn("Account is required");
             throw new RuntimeException("Account is required");
         }
         
-        System.out.println("  [UserService] Looking up account: " + accountName);
+        logger.debug("Looking up account: {}", accountName);
         Account account = accountRepository.findByAccountName(accountName)
             .orElseThrow(() -> {
-                System.out.println("  [UserService] ERROR: Account not found: " + accountName);
+                logger.warn("Account not found: {}", accountName);
                 return new RuntimeException("Account not found: " + accountName);
             });
         Long accountId = account.getAccountId();
-        System.out.println("  [UserService] Found account ID: " + accountId);
+        logger.debug("Found account ID: {}", accountId);
 
         // Hash password before storing
         String hashedPassword = passwordEncoder.encode(registrationDTO.getPassword());
-        System.out.println("  [UserService] Password hashed successfully");
+        logger.debug("Password hashed successfully");
 
         // Create new user with USER role
-        System.out.println("  [UserService] Creating new User object...");
+        logger.debug("Creating new User object...");
         User user = new User(
             ntid,
             registrationDTO.getEmail(),
@@ -85,18 +92,18 @@ public class UserService {
             hashedPassword
         );
         user.setRole(UserRole.USER); // Default role is USER
-        System.out.println("  [UserService] User object created with role: " + user.getRole());
+        logger.debug("User object created with role: {}", user.getRole());
 
-        System.out.println("  [UserService] Saving user to database...");
+        logger.debug("Saving user to database...");
         User savedUser = userRepository.save(user);
-        System.out.println("  [UserService] User saved successfully to database");
-        System.out.println("  [UserService] Saved User Details:");
-        System.out.println("    - NTID: " + savedUser.getNtid());
-        System.out.println("    - Email: " + savedUser.getEmail());
-        System.out.println("    - Role: " + savedUser.getRole());
-        System.out.println("    - Account: " + savedUser.getAccount());
-        System.out.println("    - Account ID: " + savedUser.getAccountId());
-        System.out.println("    - Password: ***");
+        logger.debug("User saved successfully to database");
+        logger.debug("Saved User Details:");
+        logger.debug("- NTID: {}", savedUser.getNtid());
+        logger.debug("- Email: {}", savedUser.getEmail());
+        logger.debug("- Role: {}", savedUser.getRole());
+        logger.debug("- Account: {}", savedUser.getAccount());
+        logger.debug("- Account ID: {}", savedUser.getAccountId());
+        logger.debug("- Password: ***");
         
         return savedUser;
     }
@@ -107,7 +114,7 @@ public class UserService {
     @Transactional
     public void deleteUser(String ntid, String requestedBy) {
         // Check permissions - only ADMIN can delete users
-        User requester = userRepository.findByNtid(requestedBy)
+        User requester = callerContext.findUser(requestedBy)
             .orElseThrow(() -> new RuntimeException("Requester not found"));
 
         if (requester.getRole() != UserRole.ADMIN) {
@@ -123,14 +130,14 @@ public class UserService {
     @Transactional
     public User createAdminUser(UserRegistrationDTO registrationDTO, String requestedBy) {
         // Only ADMIN can create admin users
-        User requester = userRepository.findByNtid(requestedBy)
+        User requester = callerContext.findUser(requestedBy)
             .orElseThrow(() -> new RuntimeException("Requester not found"));
 
         if (requester.getRole() != UserRole.ADMIN) {
             throw new RuntimeException("Only ADMIN can create admin users");
         }
 
-        String ntid = registrationDTO.getNtid().toLowerCase();
+        String ntid = User.canonicalNtid(registrationDTO.getNtid());
 
         // Check if user already exists
         if (userRepository.existsByNtid(ntid)) {
@@ -203,7 +210,7 @@ public class UserService {
     @Transactional
     public User updateUserRole(String ntid, UserRole newRole, String requestedBy) {
         // Check permissions
-        User requester = userRepository.findByNtid(requestedBy)
+        User requester = callerContext.findUser(requestedBy)
             .orElseThrow(() -> new RuntimeException("Requester not found"));
 
         if (requester.getRole() != UserRole.ADMIN) {
@@ -224,12 +231,12 @@ public class UserService {
      */
     @Transactional
     public User updateUserDetails(String ntid, com.finsight.dto.UpdateUserDTO updateDTO, String requestedBy) {
-        System.out.println("  [UserService] updateUserDetails() called");
-        System.out.println("  [UserService] Updating user: " + ntid);
-        System.out.println("  [UserService] Requested by: " + requestedBy);
+        logger.debug("updateUserDetails() called");
+        logger.debug("Updating user: {}", ntid);
+        logger.debug("Requested by: {}", requestedBy);
 
         // Check permissions - only ADMIN or SCRUM_MASTER can update users
-        User requester = userRepository.findByNtid(requestedBy)
+        User requester = callerContext.findUser(requestedBy)
             .orElseThrow(() -> new RuntimeException("Requester not found"));
 
         if (requester.getRole() != UserRole.ADMIN && requester.getRole() != UserRole.SCRUM_MASTER) {
@@ -243,8 +250,8 @@ public class UserService {
         // Update NTID if provided (and different)
         // Note: NTID is the primary key, so we need to handle this carefully
         if (updateDTO.getNtid() != null && !updateDTO.getNtid().trim().isEmpty() && 
-            !updateDTO.getNtid().trim().toLowerCase().equals(user.getNtid().toLowerCase())) {
-            String newNtid = updateDTO.getNtid().trim().toLowerCase();
+            !User.canonicalNtid(updateDTO.getNtid()).equals(user.getNtid())) {
+            String newNtid = User.canonicalNtid(updateDTO.getNtid());
             
             // Check if new NTID already exists
             if (userRepository.existsByNtid(newNtid)) {
@@ -253,8 +260,8 @@ public class UserService {
             
             // Since NTID is the primary key, we need to create a new user with the new NTID
             // and delete the old one. This is a complex operation.
-            System.out.println("  [UserService] NTID change requested from " + user.getNtid() + " to " + newNtid);
-            System.out.println("  [UserService] Creating new user with new NTID...");
+            logger.debug("NTID change requested from {} to {}", user.getNtid(), newNtid);
+            logger.debug("Creating new user with new NTID...");
             
             // Create new user with new NTID
             User newUser = new User();
@@ -273,7 +280,7 @@ public class UserService {
             // Delete old user
             userRepository.deleteById(user.getNtid());
             
-            System.out.println("  [UserService] NTID updated successfully");
+            logger.debug("NTID updated successfully");
             // Update the user reference to the new user
             user = savedNewUser;
         }
@@ -293,7 +300,7 @@ public class UserService {
                 throw new RuntimeException("User with this email already exists");
             }
             
-            System.out.println("  [UserService] Updating email from " + user.getEmail() + " to " + newEmail);
+            logger.debug("Updating email from {} to {}", user.getEmail(), newEmail);
             user.setEmail(newEmail);
         }
 
@@ -305,7 +312,7 @@ public class UserService {
             Account account = accountRepository.findByAccountName(accountName)
                 .orElseThrow(() -> new RuntimeException("Account not found: " + accountName));
             
-            System.out.println("  [UserService] Updating account to " + accountName + " (ID: " + account.getAccountId() + ")");
+            logger.debug("Updating account to {} (ID: {})", accountName, account.getAccountId());
             user.setAccount(accountName);
             user.setAccountId(account.getAccountId());
         } else if (updateDTO.getAccountId() != null) {
@@ -313,7 +320,7 @@ public class UserService {
             Account account = accountRepository.findById(updateDTO.getAccountId())
                 .orElseThrow(() -> new RuntimeException("Account not found with ID: " + updateDTO.getAccountId()));
             
-            System.out.println("  [UserService] Updating account to " + account.getAccountName() + " (ID: " + updateDTO.getAccountId() + ")");
+            logger.debug("Updating account to {} (ID: {})", account.getAccountName(), updateDTO.getAccountId());
             user.setAccount(account.getAccountName());
             user.setAccountId(updateDTO.getAccountId());
         }
@@ -323,27 +330,27 @@ public class UserService {
             if (requester.getRole() != UserRole.ADMIN) {
                 throw new RuntimeException("Only ADMIN can update user roles");
             }
-            System.out.println("  [UserService] Updating role from " + user.getRole() + " to " + updateDTO.getRole());
+            logger.debug("Updating role from {} to {}", user.getRole(), updateDTO.getRole());
             user.setRole(updateDTO.getRole());
         }
 
         // Update active status if provided
         if (updateDTO.getActive() != null && updateDTO.getActive() != user.getActive()) {
-            System.out.println("  [UserService] Updating active status from " + user.getActive() + " to " + updateDTO.getActive());
+            logger.debug("Updating active status from {} to {}", user.getActive(), updateDTO.getActive());
             user.setActive(updateDTO.getActive());
         }
 
-        System.out.println("  [UserService] Saving updated user...");
+        logger.debug("Saving updated user...");
         // If NTID was changed, user is already the new user, otherwise save the updated user
         User updatedUser = user;
         if (updateDTO.getNtid() == null || 
-            updateDTO.getNtid().trim().toLowerCase().equals(user.getNtid().toLowerCase())) {
+            User.canonicalNtid(updateDTO.getNtid()).equals(user.getNtid())) {
             // NTID wasn't changed, so save normally
             updatedUser = userRepository.save(user);
         }
         // If NTID was changed, the new user was already saved above
         
-        System.out.println("  [UserService] User updated successfully");
+        logger.debug("User updated successfully");
         
         return updatedUser;
     }
@@ -0,0 +1,37 @@
+-- =====================================================
+-- V2 - Composite indexes for the repository queries
+-- =====================================================
+-- Every ticket list filters on ACTIVE and sorts by CREATED_AT DESC, so each index
+-- leads with the equality columns and ends with CREATED_AT: the database reads the
+-- matching rows in order and needs no sort.
+-- =====================================================
+
+-- RequestQueries.findByActiveTrueOrderByCreatedAtDesc, findAllAssignedTicketsOrderByCreatedAtDesc
+CREATE INDEX IDX_REQ_ACTIVE_AT ON FLOWAI_REQUESTS(ACTIVE, CREATED_AT);
+
+-- RequestQueries.findByStatusAndActiveTrueOrderByCreatedAtDesc, findWithFilters(status),
+-- RequestRepository.countByStatusAndActiveTrue
+CREATE INDEX IDX_REQ_ACTIVE_STATUS_AT ON FLOWAI_REQUESTS(ACTIVE, STATUS, CREATED_AT);
+
+-- RequestQueries.findByAccountIdAndActiveTrueOrderByCreatedAtDesc, findWithFilters(accountId),
+-- RequestRepository.findByAccountIds
+CREATE INDEX IDX_REQ_ACTIVE_ACCOUNT_AT ON FLOWAI_REQUESTS(ACTIVE, ACCOUNT_ID, CREATED_AT);
+
+-- RequestQueries.findByCreatedByAndActiveTrueOrderByCreatedAtDesc
+CREATE INDEX IDX_REQ_CREATOR_ACTIVE_AT ON FLOWAI_REQUESTS(CREATED_BY, ACTIVE, CREATED_AT);
+
+-- RequestQueries.findByAssignedToAndActiveTrueOrderByCreatedAtDesc, RequestRepository.countByAssignedToAndActiveTrue
+CREATE INDEX IDX_REQ_ASSIGNEE_ACTIVE_AT ON FLOWAI_REQUESTS(ASSIGNED_TO, ACTIVE, CREATED_AT);
+
+-- RequestRepository.findRequestsApproachingEta (ETA range scan, ordered by ETA)
+CREATE INDEX IDX_REQ_ACTIVE_ETA ON FLOWAI_REQUESTS(ACTIVE, ETA);
+
+-- RequestCommentRepository.findByRequestIdAndActiveTrueOrderByCommentedAtAsc, findPageByRequestId,
+-- findCommentActivityByRequestIds
+CREATE INDEX IDX_COMMENTS_REQ_ACTIVE_AT ON FLOWAI_REQUEST_COMMENTS(REQUEST_ID, ACTIVE, COMMENTED_AT);
+
+-- UserAccountRepository.findByAccountIdAndActiveTrue
+CREATE INDEX IDX_USER_ACCTS_ACCOUNT_ACTIVE ON FLOWAI_USER_ACCOUNTS(ACCOUNT_ID, ACTIVE);
+
+-- UserRepository.findByRoleAndActiveTrueOrderByNtidAsc
+CREATE INDEX IDX_USERS_ROLE_ACTIVE ON FLOWAI_USERS(ROLE, ACTIVE, NTID);
@@ -0,0 +1,22 @@
+-- =====================================================
+-- V3 - Canonical NTIDs (trimmed, lower case)
+-- =====================================================
+-- The application now stores every NTID in canonical form (User.canonicalNtid) and
+-- looks tickets up with plain equality, so existing rows are converted once here.
+-- FLOWAI_USERS.NTID is already canonical: users have always been created lower case.
+-- =====================================================
+
+UPDATE FLOWAI_REQUESTS SET CREATED_BY = LOWER(TRIM(CREATED_BY))
+WHERE CREATED_BY <> LOWER(TRIM(CREATED_BY));
+
+UPDATE FLOWAI_REQUESTS SET ASSIGNED_TO = LOWER(TRIM(ASSIGNED_TO))
+WHERE ASSIGNED_TO <> LOWER(TRIM(ASSIGNED_TO));
+
+UPDATE FLOWAI_REQUESTS SET ASSIGNED_BY = LOWER(TRIM(ASSIGNED_BY))
+WHERE ASSIGNED_BY <> LOWER(TRIM(ASSIGNED_BY));
+
+UPDATE FLOWAI_REQUEST_COMMENTS SET COMMENTED_BY = LOWER(TRIM(COMMENTED_BY))
+WHERE COMMENTED_BY <> LOWER(TRIM(COMMENTED_BY));
+
+UPDATE FLOWAI_USER_ACCOUNTS SET NTID = LOWER(TRIM(NTID))
+WHERE NTID <> LOWER(TRIM(NTID));
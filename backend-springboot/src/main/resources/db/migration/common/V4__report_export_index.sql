@@ -0,0 +1,10 @@
+-- =====================================================
+-- V4 - Index for chunked ticket exports
+-- =====================================================
+-- Report jobs read an account's tickets in chunks ordered by REQUEST_ID
+-- (keyset pagination), so each chunk is an index range scan with no sort.
+-- Exports of every account use the primary key.
+-- =====================================================
+
+-- RequestSummaryRepository.findActiveByAccountAfter, countByAccountIdAndActiveTrue
+CREATE INDEX IDX_REQ_ACTIVE_ACCOUNT_ID ON FLOWAI_REQUESTS(ACTIVE, ACCOUNT_ID, REQUEST_ID);
@@ -0,0 +1,18 @@
+-- =====================================================
+-- V1.1 - Split comment text into inline and overflow storage (H2, development)
+-- =====================================================
+-- Same change as db/migration/oracle/V1_1__split_comment_text.sql, in H2 syntax.
+-- =====================================================
+
+ALTER TABLE FLOWAI_REQUEST_COMMENTS ADD COLUMN COMMENT_TEXT_SHORT VARCHAR(4000) BEFORE COMMENT_TEXT;
+
+ALTER TABLE FLOWAI_REQUEST_COMMENTS ALTER COLUMN COMMENT_TEXT SET NULL;
+
+UPDATE FLOWAI_REQUEST_COMMENTS
+SET COMMENT_TEXT_SHORT = CAST(COMMENT_TEXT AS VARCHAR(1000)),
+    COMMENT_TEXT = NULL
+WHERE COMMENT_TEXT IS NOT NULL
+AND CHAR_LENGTH(COMMENT_TEXT) <= 1000;
+
+ALTER TABLE FLOWAI_REQUEST_COMMENTS
+ADD CONSTRAINT CHK_COMMENT_TEXT_PRESENT CHECK (COMMENT_TEXT_SHORT IS NOT NULL OR COMMENT_TEXT IS NOT NULL);
@@ -0,0 +1,22 @@
+-- =====================================================
+-- V2.2 - Drop single-column indexes covered by V2 (H2, development)
+-- =====================================================
+-- Same indexes as db/migration/oracle/V2_2__drop_prefix_indexes.sql. H2 binds a
+-- foreign key to the index it found when the key was created, so each key is dropped
+-- with its index and re-created: it then binds to the V2 composite that leads with
+-- the same column.
+-- =====================================================
+
+DROP INDEX IDX_REQUESTS_ACTIVE;
+
+ALTER TABLE FLOWAI_REQUESTS DROP CONSTRAINT FK_REQUEST_CREATED_BY;
+DROP INDEX IF EXISTS IDX_REQUESTS_CREATED_BY;
+ALTER TABLE FLOWAI_REQUESTS ADD CONSTRAINT FK_REQUEST_CREATED_BY FOREIGN KEY (CREATED_BY) REFERENCES FLOWAI_USERS(NTID);
+
+ALTER TABLE FLOWAI_REQUESTS DROP CONSTRAINT FK_REQUEST_ASSIGNED_TO;
+DROP INDEX IF EXISTS IDX_REQUESTS_ASSIGNED_TO;
+ALTER TABLE FLOWAI_REQUESTS ADD CONSTRAINT FK_REQUEST_ASSIGNED_TO FOREIGN KEY (ASSIGNED_TO) REFERENCES FLOWAI_USERS(NTID);
+
+ALTER TABLE FLOWAI_REQUEST_COMMENTS DROP CONSTRAINT FK_COMMENT_REQUEST;
+DROP INDEX IF EXISTS IDX_COMMENTS_REQUEST_ID;
+ALTER TABLE FLOWAI_REQUEST_COMMENTS ADD CONSTRAINT FK_COMMENT_REQUEST FOREIGN KEY (REQUEST_ID) REFERENCES FLOWAI_REQUESTS(REQUEST_ID) ON DELETE CASCADE;
@@ -0,0 +1,45 @@
+-- =====================================================
+-- V5 - Archive tables for closed tickets (H2, development)
+-- =====================================================
+-- Same tables as db/migration/oracle/V5__ticket_archive.sql, with H2 column types.
+-- =====================================================
+
+CREATE TABLE FLOWAI_REQUESTS_ARCHIVE (
+    REQUEST_ID BIGINT PRIMARY KEY,
+    TITLE VARCHAR(200) NOT NULL,
+    DESCRIPTION CLOB,
+    REQUEST_TYPE VARCHAR(50) NOT NULL,
+    PRIORITY VARCHAR(20) NOT NULL,
+    STATUS VARCHAR(20) NOT NULL,
+    CREATED_BY VARCHAR(50) NOT NULL,
+    ASSIGNED_TO VARCHAR(50),
+    ACCOUNT_ID BIGINT,
+    CREATED_AT TIMESTAMP(6) NOT NULL,
+    UPDATED_AT TIMESTAMP(6) NOT NULL,
+    ASSIGNED_AT TIMESTAMP(6),
+    ASSIGNED_BY VARCHAR(50),
+    ETA TIMESTAMP(6),
+    ACTIVE BOOLEAN NOT NULL,
+    ARCHIVED_AT TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE FLOWAI_REQUEST_COMMENTS_ARCHIVE (
+    COMMENT_ID BIGINT PRIMARY KEY,
+    REQUEST_ID BIGINT NOT NULL,
+    COMMENT_TEXT_SHORT VARCHAR(4000),
+    COMMENT_TEXT CLOB,
+    COMMENTED_BY VARCHAR(50) NOT NULL,
+    COMMENTED_AT TIMESTAMP(6) NOT NULL,
+    IS_ETA_CHANGE BOOLEAN NOT NULL,
+    OLD_ETA TIMESTAMP(6),
+    NEW_ETA TIMESTAMP(6),
+    CHANGE_REASON VARCHAR(500),
+    ACTIVE BOOLEAN NOT NULL,
+    ARCHIVED_AT TIMESTAMP(6) NOT NULL
+);
+
+-- ArchivedRequestCommentRepository.findByRequestIdAndActiveTrueOrderByCommentedAtAsc, findPageByRequestId
+CREATE INDEX IDX_COMMENTS_ARCH_REQ_AT ON FLOWAI_REQUEST_COMMENTS_ARCHIVE(REQUEST_ID, ACTIVE, COMMENTED_AT);
+
+-- RequestRepository.findArchivableRequestIds (UPDATED_AT range scan)
+CREATE INDEX IDX_REQ_UPDATED_AT ON FLOWAI_REQUESTS(UPDATED_AT);
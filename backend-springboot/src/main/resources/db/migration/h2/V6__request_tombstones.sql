@@ -0,0 +1,13 @@
+-- =====================================================
+-- V6 - Tombstones for tickets removed from FLOWAI_REQUESTS (H2, development)
+-- =====================================================
+-- Same table as db/migration/oracle/V6__request_tombstones.sql, with H2 column types.
+-- =====================================================
+
+CREATE TABLE FLOWAI_REQUEST_TOMBSTONES (
+    REQUEST_ID BIGINT PRIMARY KEY,
+    REMOVED_AT TIMESTAMP(6) NOT NULL
+);
+
+-- RequestTombstoneRepository.findRequestIdsRemovedAfter, deleteRemovedBefore
+CREATE INDEX IDX_TOMBSTONES_REMOVED_AT ON FLOWAI_REQUEST_TOMBSTONES(REMOVED_AT);
@@ -0,0 +1,26 @@
+-- =====================================================
+-- V1.1 - Split comment text into inline and overflow storage (Oracle)
+-- =====================================================
+-- Short comments move to COMMENT_TEXT_SHORT VARCHAR2 so reading and writing them
+-- no longer goes through LOB locators; long comments stay in the COMMENT_TEXT CLOB.
+-- RequestComment.getCommentText() returns whichever column is populated.
+-- =====================================================
+
+-- Inline column; the CLOB may now be empty for short comments
+ALTER TABLE FLOWAI_REQUEST_COMMENTS ADD COMMENT_TEXT_SHORT VARCHAR2(4000);
+
+ALTER TABLE FLOWAI_REQUEST_COMMENTS MODIFY COMMENT_TEXT NULL;
+
+COMMENT ON COLUMN FLOWAI_REQUEST_COMMENTS.COMMENT_TEXT_SHORT IS 'Comment text when it fits in 4000 bytes (otherwise stored in COMMENT_TEXT)';
+
+-- Move existing short comments inline. 1000 characters is at most 4000 bytes in AL32UTF8,
+-- so the conversion cannot overflow; longer rows stay in the CLOB and are still read correctly
+UPDATE FLOWAI_REQUEST_COMMENTS
+SET COMMENT_TEXT_SHORT = DBMS_LOB.SUBSTR(COMMENT_TEXT, 1000, 1),
+    COMMENT_TEXT = NULL
+WHERE COMMENT_TEXT IS NOT NULL
+AND DBMS_LOB.GETLENGTH(COMMENT_TEXT) <= 1000;
+
+-- Every comment keeps its text in one of the two columns
+ALTER TABLE FLOWAI_REQUEST_COMMENTS
+ADD CONSTRAINT CHK_COMMENT_TEXT_PRESENT CHECK (COMMENT_TEXT_SHORT IS NOT NULL OR COMMENT_TEXT IS NOT NULL);
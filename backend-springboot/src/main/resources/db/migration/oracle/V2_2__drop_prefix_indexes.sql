@@ -0,0 +1,13 @@
+-- =====================================================
+-- V2.2 - Drop single-column indexes covered by V2 (Oracle)
+-- =====================================================
+-- Each V2 composite leads with the column of one of these V1 indexes, so they only
+-- cost writes. Worse, a planner may pick IDX_REQUESTS_ACTIVE over IDX_REQ_ACTIVE_AT
+-- and then sort. The composites still lead with the foreign key columns, so the
+-- FK lookups keep an index.
+-- =====================================================
+
+DROP INDEX IDX_REQUESTS_ACTIVE;
+DROP INDEX IDX_REQUESTS_CREATED_BY;
+DROP INDEX IDX_REQUESTS_ASSIGNED_TO;
+DROP INDEX IDX_COMMENTS_REQUEST_ID;
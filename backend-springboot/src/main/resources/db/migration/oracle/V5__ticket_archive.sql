@@ -0,0 +1,48 @@
+-- =====================================================
+-- V5 - Archive tables for closed tickets
+-- =====================================================
+-- TicketArchiveService moves COMPLETED, CANCELLED and soft-deleted tickets older
+-- than finsight.archive.min-age-days here, with their comments, so the hot tables
+-- and their indexes only hold recent and open work. Rows are copied unchanged plus
+-- ARCHIVED_AT; there are no foreign keys, the archive is written once and only read.
+-- =====================================================
+
+CREATE TABLE FLOWAI_REQUESTS_ARCHIVE (
+    REQUEST_ID NUMBER PRIMARY KEY,
+    TITLE VARCHAR2(200) NOT NULL,
+    DESCRIPTION CLOB,
+    REQUEST_TYPE VARCHAR2(50) NOT NULL,
+    PRIORITY VARCHAR2(20) NOT NULL,
+    STATUS VARCHAR2(20) NOT NULL,
+    CREATED_BY VARCHAR2(50) NOT NULL,
+    ASSIGNED_TO VARCHAR2(50),
+    ACCOUNT_ID NUMBER,
+    CREATED_AT TIMESTAMP NOT NULL,
+    UPDATED_AT TIMESTAMP NOT NULL,
+    ASSIGNED_AT TIMESTAMP,
+    ASSIGNED_BY VARCHAR2(50),
+    ETA TIMESTAMP,
+    ACTIVE NUMBER(1) NOT NULL,
+    ARCHIVED_AT TIMESTAMP NOT NULL
+);
+
+CREATE TABLE FLOWAI_REQUEST_COMMENTS_ARCHIVE (
+    COMMENT_ID NUMBER PRIMARY KEY,
+    REQUEST_ID NUMBER NOT NULL,
+    COMMENT_TEXT_SHORT VARCHAR2(4000),
+    COMMENT_TEXT CLOB,
+    COMMENTED_BY VARCHAR2(50) NOT NULL,
+    COMMENTED_AT TIMESTAMP NOT NULL,
+    IS_ETA_CHANGE NUMBER(1) NOT NULL,
+    OLD_ETA TIMESTAMP,
+    NEW_ETA TIMESTAMP,
+    CHANGE_REASON VARCHAR2(500),
+    ACTIVE NUMBER(1) NOT NULL,
+    ARCHIVED_AT TIMESTAMP NOT NULL
+);
+
+-- ArchivedRequestCommentRepository.findByRequestIdAndActiveTrueOrderByCommentedAtAsc, findPageByRequestId
+CREATE INDEX IDX_COMMENTS_ARCH_REQ_AT ON FLOWAI_REQUEST_COMMENTS_ARCHIVE(REQUEST_ID, ACTIVE, COMMENTED_AT);
+
+-- RequestRepository.findArchivableRequestIds (UPDATED_AT range scan)
+CREATE INDEX IDX_REQ_UPDATED_AT ON FLOWAI_REQUESTS(UPDATED_AT);
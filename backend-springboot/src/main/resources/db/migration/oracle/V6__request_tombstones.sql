@@ -0,0 +1,16 @@
+-- =====================================================
+-- V6 - Tombstones for tickets removed from FLOWAI_REQUESTS
+-- =====================================================
+-- GET /api/requests/changes finds changed tickets by UPDATED_AT, which cannot show
+-- a row that is gone. TicketArchiveService records every ticket it moves out of
+-- FLOWAI_REQUESTS here, so sync clients learn to drop it; rows older than
+-- finsight.sync.tombstone-retention-days are purged.
+-- =====================================================
+
+CREATE TABLE FLOWAI_REQUEST_TOMBSTONES (
+    REQUEST_ID NUMBER PRIMARY KEY,
+    REMOVED_AT TIMESTAMP NOT NULL
+);
+
+-- RequestTombstoneRepository.findRequestIdsRemovedAfter, deleteRemovedBefore
+CREATE INDEX IDX_TOMBSTONES_REMOVED_AT ON FLOWAI_REQUEST_TOMBSTONES(REMOVED_AT);
@@ -0,0 +1,162 @@
+package com.finsight.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read replica routing against two in-memory H2 databases: each holds a DB_ROLE row naming it,
+ * so a query shows which pool a transaction really used
+ *
+ * @author Mukund Kute
+ */
+class DataSourceRoutingConfigTest {
+
+    private static final String SERVICE_TRANSACTION = "com.finsight.service.RequestService.getAccountStatistics";
+
+    private static final String REPOSITORY_TRANSACTION = "org.springframework.data.jpa.repository.support.SimpleJpaRepository.findAll";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+        .withUserConfiguration(DataSourceRoutingConfig.class)
+        .withBean(SimpleMeterRegistry.class);
+
+    @Test
+    void readOnlyServiceTransactionUsesReplica() {
+        withReplica(h2Url("replica")).run(context -> {
+            markDatabases(context);
+
+            assertThat(query(context, true, SERVICE_TRANSACTION)).isEqualTo("replica");
+            assertThat(context.getBean(ReadReplicaRoutingDataSource.class).isReplicaAvailable()).isTrue();
+        });
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        withReplica(h2Url("replica")).run(context -> {
+            markDatabases(context);
+
+            assertThat(query(context, false, SERVICE_TRANSACTION)).isEqualTo("primary");
+
+            TransactionTemplate transaction = transaction(context, false, SERVICE_TRANSACTION);
+            transaction.executeWithoutResult(status ->
+                jdbc(context).update("INSERT INTO DB_ROLE (NAME) VALUES ('written')"));
+
+            assertThat(countWritten(context, "primaryDataSource")).isEqualTo(1);
+            assertThat(countWritten(context, "replicaDataSource")).isZero();
+        });
+    }
+
+    @Test
+    void readOnlyTransactionsOutsideServicesAndNonTransactionalReadsUsePrimary() {
+        withReplica(h2Url("replica")).run(context -> {
+            markDatabases(context);
+
+            assertThat(query(context, true, REPOSITORY_TRANSACTION)).isEqualTo("primary");
+            assertThat(jdbc(context).queryForObject("SELECT NAME FROM DB_ROLE", String.class)).isEqualTo("primary");
+        });
+    }
+
+    @Test
+    void stoppedReplicaFallsBackToPrimary() {
+        withReplica(h2Url("replica")).run(context -> {
+            markDatabases(context);
+            assertThat(query(context, true, SERVICE_TRANSACTION)).isEqualTo("replica");
+
+            context.getBean("replicaDataSource", HikariDataSource.class).close();
+
+            assertThat(query(context, true, SERVICE_TRANSACTION)).isEqualTo("primary");
+            assertThat(context.getBean(ReadReplicaRoutingDataSource.class).isReplicaAvailable()).isFalse();
+            // Marked down: later reads go straight to the primary until the retry interval passes
+            assertThat(query(context, true, SERVICE_TRANSACTION)).isEqualTo("primary");
+        });
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimaryAndIsRetried() {
+        // IFEXISTS: H2 refuses to create the database, so every replica connection attempt fails
+        withReplica(h2Url("missing") + ";IFEXISTS=TRUE")
+            .withPropertyValues("finsight.datasource.replica.retry-interval-ms=0")
+            .run(context -> {
+                markPrimary(context);
+
+                assertThat(query(context, true, SERVICE_TRANSACTION)).isEqualTo("primary");
+                assertThat(query(context, true, SERVICE_TRANSACTION)).isEqualTo("primary");
+                assertThat(context.getBean(ReadReplicaRoutingDataSource.class).isReplicaAvailable()).isTrue();
+            });
+    }
+
+    @Test
+    void withoutReplicaUrlNoRoutingIsConfigured() {
+        contextRunner
+            .withPropertyValues("spring.datasource.url=" + h2Url("primary"))
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).doesNotHaveBean(ReadReplicaRoutingDataSource.class);
+                assertThat(context).hasSingleBean(DataSource.class);
+            });
+    }
+
+    private ApplicationContextRunner withReplica(String replicaUrl) {
+        return contextRunner.withPropertyValues(
+            "spring.datasource.url=" + h2Url("primary"),
+            "spring.datasource.username=sa",
+            "finsight.datasource.replica.url=" + replicaUrl,
+            "finsight.datasource.replica.username=sa",
+            "finsight.datasource.replica.hikari.connection-timeout=250");
+    }
+
+    private static String h2Url(String name) {
+        // Unique per test, kept open between connections
+        return "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private static void markDatabases(ApplicationContext context) {
+        markPrimary(context);
+        mark(context.getBean("replicaDataSource", DataSource.class), "replica");
+    }
+
+    private static void markPrimary(ApplicationContext context) {
+        mark(context.getBean("primaryDataSource", DataSource.class), "primary");
+    }
+
+    private static void mark(DataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE DB_ROLE (NAME VARCHAR(20))");
+        jdbc.update("INSERT INTO DB_ROLE (NAME) VALUES (?)", name);
+    }
+
+    private static String query(ApplicationContext context, boolean readOnly, String transactionName) {
+        return transaction(context, readOnly, transactionName).execute(status ->
+            jdbc(context).queryForObject("SELECT NAME FROM DB_ROLE WHERE NAME <> 'written'", String.class));
+    }
+
+    private static TransactionTemplate transaction(ApplicationContext context, boolean readOnly, String transactionName) {
+        TransactionTemplate transaction = new TransactionTemplate(
+            new DataSourceTransactionManager(context.getBean("dataSource", DataSource.class)));
+        transaction.setReadOnly(readOnly);
+        transaction.setName(transactionName);
+        return transaction;
+    }
+
+    private static JdbcTemplate jdbc(ApplicationContext context) {
+        return new JdbcTemplate(context.getBean("dataSource", DataSource.class));
+    }
+
+    private static int countWritten(ApplicationContext context, String pool) {
+        return new JdbcTemplate(context.getBean(pool, DataSource.class))
+            .queryForObject("SELECT COUNT(*) FROM DB_ROLE WHERE NAME = 'written'", Integer.class);
+    }
+}
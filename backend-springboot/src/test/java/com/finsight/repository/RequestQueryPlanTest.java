@@ -0,0 +1,203 @@
+package com.finsight.repository;
+
+import com.finsight.entity.RequestPriority;
+import com.finsight.entity.RequestStatus;
+import com.finsight.entity.RequestType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every hot ticket and comment query must be served by its Flyway index (V1, V2, V4, V5), not a table scan.
+ * Each repository method is called once; the SQL Hibernate generated for it is captured and run through
+ * H2's EXPLAIN, whose plan names the index it reads (or says tableScan)
+ *
+ * @author Mukund Kute
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.finsight.repository.RequestQueryPlanTest$CapturedSql",
+    "spring.jpa.show-sql=false",
+    // classpath: URLs only resolve once Tomcat has registered its URL handler; this slice starts no server
+    "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RequestQueryPlanTest {
+
+    private static final int ACCOUNTS = 20;
+    private static final int USERS = 50;
+    private static final int REQUESTS = 4000;
+    private static final int COMMENTS = 8000;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestSummaryRepository requestSummaryRepository;
+
+    @Autowired
+    private RequestCommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void loadTickets() {
+        // The planner weighs indexes by row counts and selectivity, so it needs a realistic spread of rows
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM FLOWAI_REQUESTS", Integer.class) > 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> accounts = new ArrayList<>();
+        for (int i = 1; i <= ACCOUNTS; i++) {
+            accounts.add(new Object[] {i, "Account " + i, Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO FLOWAI_ACCOUNTS (ACCOUNT_ID, ACCOUNT_NAME, CREATED_AT) VALUES (?, ?, ?)", accounts);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[] {user(i), user(i) + "@example.com", "DEVELOPER", (i % ACCOUNTS) + 1, Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO FLOWAI_USERS (NTID, EMAIL, ROLE, ACCOUNT_ID, CREATED_AT) VALUES (?, ?, ?, ?, ?)", users);
+
+        RequestStatus[] statuses = RequestStatus.values();
+        RequestPriority[] priorities = RequestPriority.values();
+        RequestType[] types = RequestType.values();
+        List<Object[]> requests = new ArrayList<>();
+        for (int i = 1; i <= REQUESTS; i++) {
+            LocalDateTime createdAt = now.minusHours(REQUESTS - i);
+            requests.add(new Object[] {
+                i, "Ticket " + i, types[i % types.length].name(), priorities[i % priorities.length].name(),
+                statuses[i % statuses.length].name(), user(i % USERS + 1), i % 3 == 0 ? null : user((i * 7) % USERS + 1),
+                (i % ACCOUNTS) + 1, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt.plusHours(i % 48)),
+                i % 4 == 0 ? null : Timestamp.valueOf(createdAt.plusDays(14)), i % 10 != 0
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO FLOWAI_REQUESTS (REQUEST_ID, TITLE, REQUEST_TYPE, PRIORITY, STATUS, CREATED_BY, "
+            + "ASSIGNED_TO, ACCOUNT_ID, CREATED_AT, UPDATED_AT, ETA, ACTIVE) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", requests);
+
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 1; i <= COMMENTS; i++) {
+            comments.add(new Object[] {i, (i % REQUESTS) + 1, "Comment " + i, user(i % USERS + 1),
+                Timestamp.valueOf(now.minusMinutes(COMMENTS - i)), i % 20 != 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO FLOWAI_REQUEST_COMMENTS (COMMENT_ID, REQUEST_ID, COMMENT_TEXT_SHORT, COMMENTED_BY, "
+            + "COMMENTED_AT, ACTIVE) VALUES (?, ?, ?, ?, ?, ?)", comments);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void ticketListsUseCompositeIndexes() {
+        assertIndex("IDX_REQ_ACTIVE_AT", () -> requestRepository.findByActiveTrueOrderByCreatedAtDesc());
+        assertIndex("IDX_REQ_ACTIVE_AT", () -> requestRepository.findAllAssignedTicketsOrderByCreatedAtDesc());
+        assertIndex("IDX_REQ_ACTIVE_STATUS_AT", () -> requestRepository.findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus.OPEN));
+        assertIndex("IDX_REQ_ACTIVE_ACCOUNT_AT", () -> requestRepository.findByAccountIdAndActiveTrueOrderByCreatedAtDesc(3L));
+        assertIndex("IDX_REQ_CREATOR_ACTIVE_AT", () -> requestRepository.findByCreatedByAndActiveTrueOrderByCreatedAtDesc(user(4)));
+        assertIndex("IDX_REQ_ASSIGNEE_ACTIVE_AT", () -> requestRepository.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(user(5)));
+        assertIndex("IDX_REQUESTS_PRIORITY", () -> requestRepository.findByPriorityAndActiveTrueOrderByCreatedAtDesc(RequestPriority.HIGH));
+        assertIndex("IDX_REQUESTS_REQUEST_TYPE", () -> requestRepository.findByRequestTypeAndActiveTrueOrderByCreatedAtDesc(RequestType.ADHOC));
+        assertIndex("IDX_REQ_ACTIVE_AT", () -> requestRepository.findWithFilters(RequestStatus.OPEN, null, null, null));
+        assertIndex("IDX_REQ_ACTIVE_ACCOUNT_AT", () -> requestRepository.findByAccountIds(List.of(3L, 4L), null, null, null));
+        assertIndex("IDX_REQ_ACTIVE_ETA", () -> requestRepository.findRequestsApproachingEta(LocalDateTime.now()));
+    }
+
+    @Test
+    void ticketSummaryListsUseTheSameIndexes() {
+        assertIndex("IDX_REQ_ACTIVE_AT", () -> requestSummaryRepository.findByActiveTrueOrderByCreatedAtDesc());
+        assertIndex("IDX_REQ_ACTIVE_STATUS_AT", () -> requestSummaryRepository.findByStatusAndActiveTrueOrderByCreatedAtDesc(RequestStatus.OPEN));
+        assertIndex("IDX_REQ_ACTIVE_ACCOUNT_AT", () -> requestSummaryRepository.findByAccountIdAndActiveTrueOrderByCreatedAtDesc(3L));
+        assertIndex("IDX_REQ_CREATOR_ACTIVE_AT", () -> requestSummaryRepository.findByCreatedByAndActiveTrueOrderByCreatedAtDesc(user(4)));
+        assertIndex("IDX_REQ_ASSIGNEE_ACTIVE_AT", () -> requestSummaryRepository.findByAssignedToAndActiveTrueOrderByCreatedAtDesc(user(5)));
+    }
+
+    @Test
+    void countsUseCompositeIndexes() {
+        assertIndex("IDX_REQ_ACTIVE_STATUS_AT", () -> requestRepository.countByStatusAndActiveTrue(RequestStatus.OPEN));
+        assertIndex("IDX_REQ_ASSIGNEE_ACTIVE_AT", () -> requestRepository.countByAssignedToAndActiveTrue(user(5)));
+        assertIndex("IDX_REQ_ACTIVE_ACCOUNT_AT", () -> requestSummaryRepository.countByAccountIdAndActiveTrue(3L));
+    }
+
+    @Test
+    void exportSyncAndArchiveScansUseIndexes() {
+        assertIndex("IDX_REQ_ACTIVE_ACCOUNT_ID", () -> requestSummaryRepository.findActiveByAccountAfter(3L, 0L, PageRequest.of(0, 500)));
+        assertIndex("IDX_REQ_UPDATED_AT", () -> requestRepository.findByUpdatedAtAfterOrderByUpdatedAtAsc(LocalDateTime.now().minusHours(1)));
+        assertIndex("IDX_REQ_UPDATED_AT", () -> requestRepository.findArchivableRequestIds(LocalDateTime.now().minusDays(180), PageRequest.of(0, 500)));
+    }
+
+    @Test
+    void commentReadsUseRequestIndex() {
+        assertIndex("IDX_COMMENTS_REQ_ACTIVE_AT", () -> commentRepository.findByRequestIdAndActiveTrueOrderByCommentedAtAsc(7L));
+        assertIndex("IDX_COMMENTS_REQ_ACTIVE_AT", () -> commentRepository.findPageByRequestId(7L, PageRequest.of(0, 20)).getContent());
+        assertIndex("IDX_COMMENTS_REQ_ACTIVE_AT", () -> commentRepository.findCommentActivityByRequestIds(List.of(7L, 8L, 9L)));
+    }
+
+    /**
+     * Run the query, then EXPLAIN every statement it issued: each must read the expected index
+     */
+    private void assertIndex(String index, Runnable query) {
+        CapturedSql.STATEMENTS.clear();
+        query.run();
+        List<String> statements = new ArrayList<>(CapturedSql.STATEMENTS);
+        assertThat(statements).as("SQL issued").isNotEmpty();
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as("Plan of %s", sql).doesNotContain("tableScan").contains(index);
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                // The plan is made when the statement is prepared; parameter values do not change it
+                for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet result = statement.executeQuery()) {
+                    result.next();
+                    return result.getString(1);
+                }
+            }
+        });
+    }
+
+    private static String user(int i) {
+        return "user" + i;
+    }
+
+    /**
+     * Records the SQL Hibernate prepares (registered as the session factory's statement inspector)
+     */
+    public static class CapturedSql implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
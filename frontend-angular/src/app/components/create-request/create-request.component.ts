@@ -3,7 +3,7 @@ import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { Router, RouterModule } from '@angular/router';
 import { AuthService, Account } from '../../services/auth.service';
-import { RequestService } from '../../services/request.service';
+import { RequestService, Submission } from '../../services/request.service';
 import { CanComponentDeactivate } from '../../guards/can-deactivate.guard';
 
 @Component({
@@ -17,6 +17,9 @@ export class CreateRequestComponent implements OnInit, CanComponentDeactivate {
   user: any = null;
   accounts: Account[] = [];
   
+  // Idempotency key of the last submission, reused when it is retried after an error
+  private lastSubmission: Submission | null = null;
+
   requestData = {
     title: '',
     description: '',
@@ -108,7 +111,9 @@ export class CreateRequestComponent implements OnInit, CanComponentDeactivate {
       accountId: this.requestData.accountId
     };
 
-    this.requestService.createRequest(payload, this.user.ntid).subscribe({
+    this.lastSubmission = this.requestService.submissionFor(this.lastSubmission, payload);
+
+    this.requestService.createRequest(payload, this.user.ntid, this.lastSubmission.key).subscribe({
       next: (response) => {
         this.isLoading = false;
         this.successMessage = 'Request created successfully!';
@@ -3,7 +3,7 @@ import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { ActivatedRoute, Router, RouterModule } from '@angular/router';
 import { AuthService } from '../../services/auth.service';
-import { RequestService, Request, UpdateStatus, Comment, CreateComment } from '../../services/request.service';
+import { RequestService, Request, UpdateStatus, Comment, CreateComment, Submission } from '../../services/request.service';
 
 @Component({
   selector: 'app-request-detail',
@@ -67,6 +67,8 @@ export class RequestDetailComponent implements OnInit {
     commentText: ''
   };
   isAddingComment = false;
+  // Idempotency key of the last comment submission, reused when it is retried after an error
+  private lastCommentSubmission: Submission | null = null;
   @ViewChild('commentForm') commentFormRef?: ElementRef;
 
   constructor(
@@ -195,9 +197,13 @@ export class RequestDetailComponent implements OnInit {
       isEtaChange: false
     };
 
-    this.requestService.addComment(this.requestId, createComment, this.user.ntid).subscribe({
+    this.lastCommentSubmission = this.requestService.submissionFor(
+      this.lastCommentSubmission, { requestId: this.requestId, ...createComment });
+
+    this.requestService.addComment(this.requestId, createComment, this.user.ntid, this.lastCommentSubmission.key).subscribe({
       next: (comment) => {
         this.isAddingComment = false;
+        this.lastCommentSubmission = null;
         this.showAddCommentForm = false;
         this.newComment.commentText = '';
         this.loadComments(); // Reload comments
@@ -4,6 +4,11 @@ import { Observable } from 'rxjs';
 import { map } from 'rxjs/operators';
 import { environment } from '../../environments/environment';
 
+export interface Submission {
+  key: string;
+  body: string;
+}
+
 export interface Request {
   requestId: number;
   title: string;
@@ -85,9 +90,28 @@ export class RequestService {
     });
   }
 
-  createRequest(request: CreateRequest, userNtid: string): Observable<any> {
+  /**
+   * Idempotency key for a create/comment submission: the previous key while the body is
+   * unchanged (a retry, which the server then does not run twice), a new key once it changes.
+   * Uses getRandomValues() because crypto.randomUUID() needs HTTPS
+   */
+  submissionFor(previous: Submission | null, body: object): Submission {
+    const json = JSON.stringify(body);
+    if (previous && previous.body === json) {
+      return previous;
+    }
+    const bytes = crypto.getRandomValues(new Uint8Array(16));
+    return { key: Array.from(bytes, b => b.toString(16).padStart(2, '0')).join(''), body: json };
+  }
+
+  private getWriteHeaders(userNtid: string, idempotencyKey?: string): HttpHeaders {
+    const headers = this.getHeaders(userNtid);
+    return idempotencyKey ? headers.set('Idempotency-Key', idempotencyKey) : headers;
+  }
+
+  createRequest(request: CreateRequest, userNtid: string, idempotencyKey?: string): Observable<any> {
     return this.http.post(`${this.apiUrl}`, request, {
-      headers: this.getHeaders(userNtid)
+      headers: this.getWriteHeaders(userNtid, idempotencyKey)
     });
   }
 
@@ -199,9 +223,9 @@ export class RequestService {
     });
   }
 
-  addComment(requestId: number, comment: CreateComment, userNtid: string): Observable<Comment> {
+  addComment(requestId: number, comment: CreateComment, userNtid: string, idempotencyKey?: string): Observable<Comment> {
     return this.http.post<Comment>(`${this.apiUrl}/${requestId}/comments`, comment, {
-      headers: this.getHeaders(userNtid)
+      headers: this.getWriteHeaders(userNtid, idempotencyKey)
     });
   }
 